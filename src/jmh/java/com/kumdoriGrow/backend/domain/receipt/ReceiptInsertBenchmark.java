@@ -0,0 +1,133 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영수증 INSERT 처리량 - IDENTITY(행마다 실행 + 생성 키 조회) vs 풀링 시퀀스(id 선할당 + JDBC 배치)
+ * - Hibernate가 각 전략에서 실제로 내보내는 JDBC 호출 패턴을 그대로 재현한다
+ * - 기본은 로컬 H2, MySQL은 -p jdbcUrl=jdbc:mysql://localhost:3306/kumdori_bench?rewriteBatchedStatements=true -p user=... -p password=...
+ * - 결과 단위는 초당 INSERT 행 수 (@OperationsPerInvocation = 한 번에 넣는 행 수)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReceiptInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50; // hibernate.jdbc.batch_size / allocationSize
+
+    private static final String INSERT_IDENTITY =
+            "insert into bench_receipts (user_id, store_name, total_amount, category_code, exp_awarded, status, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_WITH_ID =
+            "insert into bench_receipts (id, user_id, store_name, total_amount, category_code, exp_awarded, status, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private Connection connection;
+    private long nextId;
+    private Timestamp createdAt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement st = connection.createStatement()) {
+            st.execute("drop table if exists bench_receipts");
+            st.execute("create table bench_receipts (id bigint auto_increment primary key, user_id bigint not null, "
+                    + "store_name varchar(255) not null, total_amount bigint not null, category_code varchar(20), "
+                    + "exp_awarded int not null, status varchar(20) not null, created_at timestamp not null)");
+        }
+        connection.commit();
+        createdAt = Timestamp.from(Instant.now());
+        nextId = 1_000_000_000L; // IDENTITY 쪽 값과 겹치지 않게
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("delete from bench_receipts");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("drop table if exists bench_receipts");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * GenerationType.IDENTITY: 키를 받아야 엔티티가 영속화되므로 행마다 executeUpdate + getGeneratedKeys
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_IDENTITY, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    /**
+     * GenerationType.SEQUENCE(pooled, 50): id는 메모리에서 채번, INSERT는 batch_size마다 executeBatch
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int pooledSequenceBatched() throws SQLException {
+        int written = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_WITH_ID)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, nextId++);
+                bind(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    written += ps.executeBatch().length;
+                }
+            }
+            written += ps.executeBatch().length;
+        }
+        connection.commit();
+        return written;
+    }
+
+    private void bind(PreparedStatement ps, int from, int i) throws SQLException {
+        ps.setLong(from, 1 + (i % 20));
+        ps.setString(from + 1, "스타벅스 대전대흥점");
+        ps.setLong(from + 2, 4_700L + i);
+        ps.setString(from + 3, "FRANCHISE");
+        ps.setInt(from + 4, 47);
+        ps.setString(from + 5, "DONE");
+        ps.setTimestamp(from + 6, createdAt);
+    }
+}
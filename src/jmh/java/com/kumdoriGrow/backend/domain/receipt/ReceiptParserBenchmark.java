@@ -0,0 +1,89 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영수증 원문 파싱 처리량 - 단일 순회 ReceiptParser vs 이전 정규식 구현(LegacyReceiptParser, src/test)
+ * - 실제 OCR 원문 모양의 프랜차이즈/시장/카드전표/키워드 없는 영수증 4종을 한 번씩 파싱 (@OperationsPerInvocation = 4)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReceiptParserBenchmark {
+
+    private static final String[] RECEIPTS = {
+            """
+            스타벅스   대전대흥점
+            사업자번호 314-81-12345
+            대표자 손정현  TEL 1522-3232
+            대전광역시 중구 대흥로 100
+            2025-08-20 12:31:05  POS 02
+            ------------------------------
+            아이스 아메리카노 T    2     9,000
+            카페 라떼 G            1     5,600
+            블루베리 베이글        1     4,300
+            ------------------------------
+            합계 :               ₩18,900
+            부가세                   1,718
+            신용카드 결제           18,900
+            카드번호 5310-****-****-1234
+            승인번호 30012345
+            """,
+            """
+            영수증
+            상호: 대전중앙시장 할머니국밥 **
+            대표 김OO  042-256-0000
+            순대국밥        2   18,000
+            수육 (소)       1   15,000
+            공기밥          2    2,000
+            소주            1    5,000
+            총 금액          40,000
+            현금 결제        40,000
+            감사합니다
+            """,
+            """
+            [매출전표]
+            가맹점명 : 성심당 본점
+            단말기 ID 1234567
+            거래일시 2025/08/20 18:02
+            판매 튀김소보로 3 x 2,000
+            판매 부추빵 2 x 2,300
+            결제금액: 10,600
+            할부 일시불
+            """,
+            """
+            동네 반찬가게
+            콩나물무침 3,000
+            멸치볶음 4,500
+            계란말이 5,000
+            배추김치 1kg 12,000
+            받은 돈 30,000
+            거스름돈 5,500
+            """
+    };
+
+    private final ReceiptParser parser = new ReceiptParser();
+    private final LegacyReceiptParser legacy = new LegacyReceiptParser();
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void singlePass(Blackhole bh) {
+        for (String raw : RECEIPTS) {
+            ReceiptParser.Parsed parsed = parser.parse(raw);
+            bh.consume(parsed.storeName());
+            bh.consume(parsed.totalPrice());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void legacyRegex(Blackhole bh) {
+        for (String raw : RECEIPTS) {
+            bh.consume(legacy.extractStoreName(raw));
+            bh.consume(legacy.extractTotalPrice(raw));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게명 정규화 처리량 - 단일 순회 NameNormalizer vs 이전 정규식 구현(LegacyNameNormalizer, src/test)
+ * - OCR 후보 줄/카탈로그 이름 모양의 입력 8개를 한 번씩 정규화 (@OperationsPerInvocation = 8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NameNormalizerBenchmark {
+
+    private static final String[] NAMES = {
+            "스타벅스   대전대흥점",
+            "(주)성심당 본점",
+            "㈜이마트24 대전둔산점",
+            "CU 대전시청역점",
+            "Paris Baguette Corp.",
+            "대전중앙시장 할머니국밥 **",
+            "스타벅스_대전대흥점",
+            "BHC치킨 (대흥점) TEL 042-123-4567"
+    };
+
+    private final NameNormalizer normalizer = new NameNormalizer();
+    private final LegacyNameNormalizer legacy = new LegacyNameNormalizer();
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void singlePass(Blackhole bh) {
+        for (String name : NAMES) bh.consume(normalizer.normalize(name));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void legacyRegex(Blackhole bh) {
+        for (String name : NAMES) bh.consume(legacy.normalize(name));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void containsSinglePass(Blackhole bh) {
+        for (String name : NAMES) bh.consume(normalizer.contains(name, "대전"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void containsLegacyRegex(Blackhole bh) {
+        for (String name : NAMES) bh.consume(legacy.contains(name, "대전"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 편집 거리 커널 비교 - 기존 전체 행렬(FULL) 대비 BANDED / MYERS
+ * - 정규화된 가게명 형태의 입력으로, 0.88 임계값이 허용하는 상한을 넘겨 실제 퍼지 매칭과 같은 조건에서 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EditDistanceKernelBenchmark {
+
+    private static final double THRESHOLD = 0.88;
+
+    // OCR 한 줄(정규화) vs 사전 항목: 가까운 쌍과 먼 쌍을 섞어 조기 종료 효과까지 반영
+    private static final String[][] PAIRS = {
+            {"스타벅스_대흥점", "스타벅스_대홍점"},
+            {"스타벅스_대흥점", "투썸플레이스_대흥역점"},
+            {"gs25_대전둔산점", "gs25_대전둔산1점"},
+            {"이마트24_유성온천역점", "이마트24_유성온천점"},
+            {"성심당_본점", "대전중앙시장_성심떡집"},
+            {"맥도날드_대전시청dt점", "맥도날드_대전시청점"},
+            {"cu_한밭대학교점", "세븐일레븐_한밭대점"},
+            {"대흥동_로컬카페_kumdori_coffee_roasters", "대흥동_로컬카페_kumdori_coffee_roaster"},
+    };
+
+    @Param({"FULL", "BANDED", "MYERS"})
+    public EditDistanceKernelType kernelType;
+
+    private EditDistanceKernel kernel;
+    private int[] maxDistances;
+
+    @Setup
+    public void setUp() {
+        kernel = kernelType.create();
+        maxDistances = new int[PAIRS.length];
+        for (int i = 0; i < PAIRS.length; i++) {
+            int q = PAIRS[i][0].length();
+            maxDistances[i] = (int) Math.floor((1.0 - THRESHOLD) * q / THRESHOLD + 1e-9);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void boundedDistance(Blackhole bh) {
+        for (int i = 0; i < PAIRS.length; i++) {
+            bh.consume(kernel.distance(PAIRS[i][0], PAIRS[i][1], maxDistances[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void exactDistance(Blackhole bh) {
+        for (String[] pair : PAIRS) {
+            bh.consume(kernel.distance(pair[0], pair[1]));
+        }
+    }
+}
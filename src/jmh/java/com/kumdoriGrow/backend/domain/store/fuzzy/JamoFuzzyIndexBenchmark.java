@@ -0,0 +1,70 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 크기별 퍼지 검색 지연 - 음절 FuzzyIndex(길이별 BK-tree) vs 자모 JamoFuzzyIndex(길이 구간 전수 DP)
+ * - 자모 검색은 길이 구간 안의 단어를 모두 비교하므로 카탈로그에 비례해 느려진다
+ * - kumdori.store-matching.jamo-matching을 켜기 전에 실제 카탈로그 크기에서 searchJamo 지연을 확인할 것
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JamoFuzzyIndexBenchmark {
+
+    private static final double THRESHOLD = 0.88;
+
+    private static final String[] BRANDS = {
+            "스타벅스", "투썸플레이스", "이디야커피", "메가커피", "gs25", "cu", "세븐일레븐", "이마트24",
+            "파리바게뜨", "뚜레쥬르", "맥도날드", "롯데리아", "성심당", "할머니국밥", "로컬카페", "동네분식"
+    };
+    private static final String[] AREAS = {
+            "대흥", "둔산", "유성온천", "은행", "선화", "대전시청", "한밭대", "궁동", "봉명", "탄방", "월평", "관저"
+    };
+
+    // OCR 한 줄(정규화) - 자모 하나 오인식 / 음절 오인식 / 카탈로그에 없는 이름
+    private static final String[] QUERIES = {
+            "스타벅스_데흥점", "gs25_둔산1점", "성심당_본졈", "할머니국반_은행점", "전혀다른가게_이름"
+    };
+
+    @Param({"1000", "10000", "50000"})
+    public int catalogSize;
+
+    private FuzzyIndex syllableIndex;
+    private JamoFuzzyIndex jamoIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> terms = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String area = AREAS[random.nextInt(AREAS.length)];
+            terms.add(brand + "_" + area + (i / (BRANDS.length * AREAS.length)) + "점");
+        }
+        syllableIndex = FuzzyIndex.build(terms, new MyersLevenshtein());
+        jamoIndex = JamoFuzzyIndex.build(terms);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void searchSyllable(Blackhole bh) {
+        for (String query : QUERIES) {
+            bh.consume(syllableIndex.search(query, THRESHOLD));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void searchJamo(Blackhole bh) {
+        for (String query : QUERIES) {
+            bh.consume(jamoIndex.search(query, THRESHOLD));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 전처리(디코딩 → 축소/흑백 → JPEG 재인코딩) 비용
+ * - 휴대폰 촬영 크기의 영수증 모양 이미지(흰 바탕 + 글자 줄 + 센서 노이즈)를 JPEG/PNG로 만들어 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OcrImagePreprocessorBenchmark {
+
+    private static final String[] LINES = {
+            "스타벅스 대전대흥점", "사업자 123-45-67890", "2025-08-14 12:31",
+            "아이스 아메리카노 T    4,700", "카페 라떼 G          5,600", "치즈 케이크          6,900",
+            "합계                17,200", "카드승인 ****-1234", "감사합니다"
+    };
+
+    // 12MP(4:3) 촬영본 / 메신저 재전송 크기
+    @Param({"3024x4032", "1512x2016"})
+    public String resolution;
+
+    @Param({"jpeg", "png"})
+    public String format;
+
+    @Param({"1600", "2048"})
+    public int maxLongEdge;
+
+    private OcrImagePreprocessor preprocessor;
+    private byte[] sample;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        sample = render(Integer.parseInt(size[0]), Integer.parseInt(size[1]), format);
+        preprocessor = new OcrImagePreprocessor(new OcrProperties.Preprocess(true, maxLongEdge, true, 0.85f));
+    }
+
+    @Benchmark
+    public byte[] preprocess() throws IOException {
+        return preprocessor.encode(new ByteArrayInputStream(sample));
+    }
+
+    private static byte[] render(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(245, 243, 236));
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.DARK_GRAY);
+        g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, width / 28));
+        int lineHeight = height / (LINES.length * 3);
+        for (int i = 0; i < LINES.length * 2; i++) {
+            g.drawString(LINES[i % LINES.length], width / 12, lineHeight * (i + 2));
+        }
+        g.dispose();
+
+        // 촬영 노이즈 - 완전 평면 이미지는 압축이 비현실적으로 잘 됨
+        Random random = new Random(42);
+        for (int i = 0; i < width * height / 20; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int shade = 200 + random.nextInt(56);
+            image.setRGB(x, y, new Color(shade, shade, shade).getRGB());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
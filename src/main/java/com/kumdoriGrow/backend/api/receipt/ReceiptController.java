@@ -1,17 +1,32 @@
 package com.kumdoriGrow.backend.api.receipt;
 
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptBatchReq;
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptBatchRes;
 import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptReq;
 import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptRes;
+import com.kumdoriGrow.backend.api.receipt.dto.ParseJobRes;
+import com.kumdoriGrow.backend.api.receipt.dto.ReceiptOcrRawRes;
 import com.kumdoriGrow.backend.api.receipt.dto.ReceiptResponse;
 import com.kumdoriGrow.backend.api.receipt.dto.XpRes;
-import com.kumdoriGrow.backend.domain.receipt.Receipt;
+import com.kumdoriGrow.backend.domain.receipt.ReceiptBatchService;
 import com.kumdoriGrow.backend.domain.receipt.ReceiptService;
+import com.kumdoriGrow.backend.domain.receipt.ReceiptSummary;
+import com.kumdoriGrow.backend.domain.receipt.parse.ParseJob;
+import com.kumdoriGrow.backend.domain.receipt.parse.ParseJobService;
+import com.kumdoriGrow.backend.support.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/receipts")
@@ -19,6 +34,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class ReceiptController {
 
     private final ReceiptService receiptService;
+    private final ReceiptBatchService receiptBatchService;
+    private final ParseJobService parseJobService;
 
     // (1) OCR 파일 파싱: /api/receipts/parse  (멀티파트)
     @PostMapping(value = "/parse", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -26,24 +43,65 @@ public class ReceiptController {
         return receiptService.process(file);
     }
 
+    // (1-1) 비동기 OCR 파싱 접수: /api/receipts/parse/jobs  (멀티파트) → 202 + jobId
+    @PostMapping(value = "/parse/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ParseJobRes> submitParse(@RequestPart("file") MultipartFile file) {
+        ParseJob job = parseJobService.submit(file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/receipts/parse/jobs/" + job.getId()))
+                .body(ParseJobRes.of(job));
+    }
+
+    // (1-2) 파싱 결과 조회: /api/receipts/parse/jobs/{jobId}?waitMs=  (waitMs > 0 이면 롱폴링, 서블릿 스레드는 반납)
+    @GetMapping("/parse/jobs/{jobId}")
+    public CompletableFuture<ParseJobRes> parseResult(@PathVariable String jobId,
+                                                      @RequestParam(defaultValue = "0") long waitMs) {
+        ParseJob job = parseJobService.find(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Parse job not found or expired"));
+        return parseJobService.await(job, Duration.ofMillis(waitMs)).thenApply(ParseJobRes::of);
+    }
+
     // (2) 영수증 등록 + 경험치 지급: /api/receipts  (JSON)
     @PostMapping
     public CreateReceiptRes create(@Valid @RequestBody CreateReceiptReq req) {
         return receiptService.create(req);
     }
 
+    // (2-1) 영수증 일괄 등록: /api/receipts/batch  (JSON, 최대 1000건, 항목별 결과)
+    @PostMapping("/batch")
+    public CreateReceiptBatchRes createBatch(@Valid @RequestBody CreateReceiptBatchReq req) {
+        return receiptBatchService.createAll(req.items());
+    }
+
     // (3) 유저 누적 경험치/레벨: /api/users/{userId}/xp
     @GetMapping("/users/{userId}/xp")
     public XpRes xp(@PathVariable long userId) {
         return receiptService.getXp(userId);
     }
 
-    // (4) 유저 영수증 목록(최근순): /api/users/{userId}/receipts
+    // (4) 유저 영수증 목록(최근순, 표시 컬럼만): /api/users/{userId}/receipts
     @GetMapping("/users/{userId}/receipts")
-    public Page<Receipt> list(@PathVariable long userId,
-                              @RequestParam(defaultValue = "0") int page,
-                              @RequestParam(defaultValue = "20") int size) {
+    public Page<ReceiptSummary> list(@PathVariable long userId,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
         return receiptService.list(userId, page, size);
     }
 
+    // (4-1) 유저 영수증 목록(커서): /api/receipts/users/{userId}/receipts/cursor?cursor=&size=  (전체 건수 없이 nextCursor로 이어서 조회)
+    @GetMapping("/users/{userId}/receipts/cursor")
+    public CursorPage<ReceiptSummary> listByCursor(@PathVariable long userId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        if (size <= 0 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page parameters");
+        }
+        return receiptService.listAfter(userId, cursor, size);
+    }
+
+    // (5) 영수증 원본 OCR 결과: /api/receipts/{receiptId}/ocr-raw  (목록 응답에서 빠진 ocr_raw / image_path)
+    @GetMapping("/{receiptId}/ocr-raw")
+    public ReceiptOcrRawRes ocrRaw(@PathVariable long receiptId) {
+        return receiptService.getOcrRaw(receiptId);
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.kumdoriGrow.backend.api.receipt.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 영수증 일괄 등록 요청 - 항목별 검증은 서비스에서 하고 실패 항목만 결과에 표시 (전체 400으로 막지 않음)
+ */
+public record CreateReceiptBatchReq(
+        @NotEmpty @Size(max = CreateReceiptBatchReq.MAX_ITEMS) List<CreateReceiptReq> items
+) {
+    public static final int MAX_ITEMS = 1000;
+}
@@ -0,0 +1,31 @@
+package com.kumdoriGrow.backend.api.receipt.dto;
+
+import java.util.List;
+
+public record CreateReceiptBatchRes(
+        int requested,
+        int created,
+        int failed,
+        List<Item> results      // 요청 순서와 같은 순서
+) {
+    public static CreateReceiptBatchRes of(List<Item> results) {
+        int created = (int) results.stream().filter(item -> item.receipt() != null).count();
+        return new CreateReceiptBatchRes(results.size(), created, results.size() - created, results);
+    }
+
+    public record Item(
+            int index,
+            String status,              // CREATED / FAILED
+            CreateReceiptRes receipt,   // CREATED일 때
+            Integer errorStatus,        // FAILED일 때 (단건 API였다면 받았을 HTTP 상태)
+            String error
+    ) {
+        public static Item created(int index, CreateReceiptRes receipt) {
+            return new Item(index, "CREATED", receipt, null, null);
+        }
+
+        public static Item failed(int index, int errorStatus, String error) {
+            return new Item(index, "FAILED", null, errorStatus, error);
+        }
+    }
+}
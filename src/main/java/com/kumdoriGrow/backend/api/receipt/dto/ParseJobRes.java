@@ -0,0 +1,15 @@
+package com.kumdoriGrow.backend.api.receipt.dto;
+
+import com.kumdoriGrow.backend.domain.receipt.parse.ParseJob;
+
+public record ParseJobRes(
+        String jobId,
+        String status,        // PENDING / RUNNING / DONE / FAILED
+        ReceiptResponse result,
+        Integer errorStatus,
+        String error
+) {
+    public static ParseJobRes of(ParseJob job) {
+        return new ParseJobRes(job.getId(), job.getStatus().name(), job.getResult(), job.getErrorStatus(), job.getError());
+    }
+}
@@ -0,0 +1,8 @@
+package com.kumdoriGrow.backend.api.receipt.dto;
+
+public record ReceiptOcrRawRes(
+        Long receiptId,
+        Long userId,
+        String ocrRaw,
+        String imagePath
+) {}
@@ -2,6 +2,7 @@ package com.kumdoriGrow.backend.api.reward;
 
 import com.kumdoriGrow.backend.domain.reward.RewardQueryService;
 import com.kumdoriGrow.backend.domain.reward.RewardService;
+import com.kumdoriGrow.backend.support.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
@@ -58,6 +59,26 @@ public class RewardController {
         return ResponseEntity.ok(history);
     }
     
+    /**
+     * 보상 히스토리 조회 (커서 기반 - 깊은 페이지에서도 OFFSET/count 없음)
+     */
+    @GetMapping("/history/cursor")
+    public ResponseEntity<CursorPage<RewardQueryService.RewardHistory>> getRewardHistoryByCursor(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        if (userId == null || userId <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid userId");
+        }
+        
+        if (size <= 0 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page parameters");
+        }
+        
+        return ResponseEntity.ok(rewardQueryService.getRewardHistoryAfter(userId, cursor, size));
+    }
+    
     /**
      * 포인트 박스 확률표 조회
      */
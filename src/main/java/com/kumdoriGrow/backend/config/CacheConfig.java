@@ -0,0 +1,13 @@
+package com.kumdoriGrow.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 캐시(Caffeine) 활성화 - 캐시 목록/스펙은 spring.cache.* 설정
+ * - recordStats가 켜진 캐시는 actuator의 cache.gets{result=hit|miss} 등으로 노출된다
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
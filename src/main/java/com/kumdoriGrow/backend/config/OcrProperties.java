@@ -1,12 +1,19 @@
 package com.kumdoriGrow.backend.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "ocr")
 public record OcrProperties(
         boolean enabled,
         String apiUrl,
-        String apiKey
+        String apiKey,
+        Http http,
+        Resilience resilience,
+        Cache cache,
+        Preprocess preprocess
 ) {
     public OcrProperties {
         // null-safe 기본값 설정 - 부팅 안정성 보장
@@ -16,10 +23,174 @@ public record OcrProperties(
         if (apiKey == null) {
             apiKey = "";
         }
+        if (http == null) {
+            http = new Http();
+        }
+        if (resilience == null) {
+            resilience = new Resilience();
+        }
+        if (cache == null) {
+            cache = new Cache();
+        }
+        if (preprocess == null) {
+            preprocess = new Preprocess();
+        }
     }
     
     // 기본값을 가진 생성자 추가 (바인딩 실패 시에도 부팅 가능)
     public OcrProperties() {
-        this(false, "", "");
+        this(false, "", "", null, null, null, null);
+    }
+
+    /**
+     * OCR HTTP 클라이언트 설정 (ocr.http.*)
+     */
+    public record Http(
+            int maxConnTotal,
+            int maxConnPerRoute,
+            Duration connectTimeout,
+            Duration connectionRequestTimeout, // 풀에서 커넥션을 빌려오기까지 대기
+            Duration responseTimeout,          // 소켓 읽기 간격
+            Duration totalTimeout,             // 요청 전체 마감 (연결~본문 수신)
+            Duration keepAlive,                // 유휴 커넥션 유지 상한
+            boolean http2                      // true면 JDK HttpClient(HTTP/2) 사용
+    ) {
+        public Http {
+            if (maxConnTotal <= 0) {
+                maxConnTotal = 20;
+            }
+            if (maxConnPerRoute <= 0) {
+                maxConnPerRoute = 10;
+            }
+            if (connectTimeout == null) {
+                connectTimeout = Duration.ofSeconds(5);
+            }
+            if (connectionRequestTimeout == null) {
+                connectionRequestTimeout = Duration.ofSeconds(2);
+            }
+            if (responseTimeout == null) {
+                responseTimeout = Duration.ofSeconds(15);
+            }
+            if (totalTimeout == null) {
+                totalTimeout = Duration.ofSeconds(20);
+            }
+            if (keepAlive == null) {
+                keepAlive = Duration.ofSeconds(30);
+            }
+        }
+
+        public Http() {
+            this(0, 0, null, null, null, null, null, false);
+        }
+    }
+
+    /**
+     * OCR 서킷 브레이커/벌크헤드 설정 (ocr.resilience.*)
+     */
+    public record Resilience(
+            int failureRateThreshold,   // 실패율(%) 이상이면 OPEN
+            int slidingWindowSize,      // 최근 N건 기준 실패율
+            int minimumCalls,           // 이만큼 쌓이기 전에는 판정하지 않음
+            Duration openDuration,      // OPEN 유지 시간 (이후 HALF_OPEN)
+            int halfOpenPermits,        // HALF_OPEN 시험 호출 수 (모두 성공하면 CLOSED)
+            int maxConcurrentCalls,     // 벌크헤드: 동시 OCR 호출 상한
+            Duration bulkheadMaxWait    // 벌크헤드 자리 대기 시간
+    ) {
+        public Resilience {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                failureRateThreshold = 50;
+            }
+            if (slidingWindowSize <= 0) {
+                slidingWindowSize = 20;
+            }
+            if (minimumCalls <= 0) {
+                minimumCalls = Math.min(10, slidingWindowSize);
+            }
+            // 창에는 slidingWindowSize건까지만 쌓이므로 그보다 크면 영원히 판정하지 않는다
+            minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+            if (openDuration == null) {
+                openDuration = Duration.ofSeconds(30);
+            }
+            if (halfOpenPermits <= 0) {
+                halfOpenPermits = 3;
+            }
+            if (maxConcurrentCalls <= 0) {
+                maxConcurrentCalls = 16;
+            }
+            if (bulkheadMaxWait == null) {
+                bulkheadMaxWait = Duration.ofMillis(100);
+            }
+        }
+
+        public Resilience() {
+            this(0, 0, 0, null, 0, 0, null);
+        }
+    }
+
+    /**
+     * 이미지 내용 해시 기반 OCR 결과 캐시 설정 (ocr.cache.*)
+     */
+    public record Cache(
+            Boolean enabled,
+            int maxEntries,     // 메모리 계층 최대 항목 수
+            Duration ttl,       // 결과 보관 시간 (디스크 계층도 동일)
+            String diskDir,     // 비어 있으면 디스크 계층 사용 안 함
+            int diskMaxEntries, // 디스크 계층 최대 파일 수 (넘으면 오래된 것부터 삭제)
+            DataSize diskMaxBytes,      // 디스크 계층 최대 용량
+            Duration diskSweepInterval  // 만료/초과 파일 정리 주기
+    ) {
+        public Cache {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (maxEntries <= 0) {
+                maxEntries = 1_000;
+            }
+            if (ttl == null) {
+                ttl = Duration.ofHours(24);
+            }
+            if (diskDir == null) {
+                diskDir = "";
+            }
+            if (diskMaxEntries <= 0) {
+                diskMaxEntries = 10_000;
+            }
+            if (diskMaxBytes == null || diskMaxBytes.toBytes() <= 0) {
+                diskMaxBytes = DataSize.ofMegabytes(512);
+            }
+            if (diskSweepInterval == null) {
+                diskSweepInterval = Duration.ofMinutes(10);
+            }
+        }
+
+        public Cache() {
+            this(null, 0, null, null, 0, null, null);
+        }
+    }
+
+    /**
+     * OCR 전송 전 이미지 전처리 설정 (ocr.preprocess.*)
+     */
+    public record Preprocess(
+            boolean enabled,
+            int maxLongEdge,        // 긴 변 최대 픽셀 (넘으면 비율 유지 축소)
+            Boolean grayscale,      // 흑백 변환 여부
+            float jpegQuality       // JPEG 재인코딩 품질 (0~1)
+    ) {
+        public Preprocess {
+            if (maxLongEdge <= 0) {
+                maxLongEdge = 2048;
+            }
+            if (grayscale == null) {
+                grayscale = true;
+            }
+            if (jpegQuality <= 0f || jpegQuality > 1f) {
+                jpegQuality = 0.85f;
+            }
+        }
+
+        public Preprocess() {
+            this(false, 0, null, 0f);
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.kumdoriGrow.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "kumdori.receipt.parse-jobs")
+public record ParseJobProperties(
+        int maxConcurrency,
+        int maxPending,
+        Duration resultTtl,
+        Duration maxWait
+) {
+    public ParseJobProperties {
+        // 미설정/잘못된 값은 기본값으로 (부팅 안정성 보장)
+        if (maxConcurrency <= 0) {
+            maxConcurrency = 8;
+        }
+        if (maxPending <= 0) {
+            maxPending = 100;
+        }
+        if (resultTtl == null) {
+            resultTtl = Duration.ofMinutes(10);
+        }
+        if (maxWait == null) {
+            maxWait = Duration.ofSeconds(25);
+        }
+    }
+
+    public ParseJobProperties() {
+        this(0, 0, null, null);
+    }
+}
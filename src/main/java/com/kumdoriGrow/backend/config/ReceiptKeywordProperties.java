@@ -0,0 +1,33 @@
+package com.kumdoriGrow.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 영수증 원문 필드 키워드 사전 (kumdori.receipt.keywords.*)
+ * - 키워드 안의 공백 한 칸은 "공백 0개 이상"으로 매칭 (예: "총 금액" → 총금액, 총 금액, 총\n금액)
+ */
+@ConfigurationProperties(prefix = "kumdori.receipt.keywords")
+public record ReceiptKeywordProperties(
+        List<String> headerStop,    // 이 단어가 나오면 가게명 후보 줄 탐색 중단
+        List<String> total,         // 뒤에 오는 금액을 합계 후보로 보는 단어
+        List<String> storeLabel     // 머리 줄에서 못 찾았을 때 "상호: ○○" 형태로 가게명을 읽는 단어
+) {
+    public ReceiptKeywordProperties {
+        // 미설정 시 기존 기본 사전
+        if (headerStop == null || headerStop.isEmpty()) {
+            headerStop = List.of("사업자", "사업자등록", "대표자", "주소", "전화", "TEL", "고객", "영수증");
+        }
+        if (total == null || total.isEmpty()) {
+            total = List.of("합계", "총액", "총 금액", "결제 금액", "신용카드 결제", "카드 결제", "현금 결제");
+        }
+        if (storeLabel == null || storeLabel.isEmpty()) {
+            storeLabel = List.of("상호", "가맹점명", "매장명");
+        }
+    }
+
+    public ReceiptKeywordProperties() {
+        this(null, null, null);
+    }
+}
@@ -1,19 +1,103 @@
 package com.kumdoriGrow.backend.config;
 
+import com.kumdoriGrow.backend.infra.ocr.DeadlineHttpComponentsClientHttpRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * OCR 호출용 HTTP 클라이언트
+ * - 기본: Apache HttpClient 5 커넥션 풀 (keep-alive 재사용, 라우트별 상한, 연결/임대/응답/전체 마감)
+ * - ocr.http.http2=true: JDK HttpClient (HTTP/2 멀티플렉싱, 요청 타임아웃 = 전체 마감)
+ * - 지연 시간은 RestTemplateBuilder 관측(http.client.requests), 풀 상태는 httpcomponents.httpclient.pool.* 로 노출
+ */
 @Configuration
 @ConditionalOnProperty(prefix = "ocr", name = "enabled", havingValue = "true", matchIfMissing = false)
 public class RestClientConfig {
+
+    private static final String POOL_NAME = "clova-ocr";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ocr.http", name = "http2", havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager ocrConnectionManager(OcrProperties ocrProperties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        OcrProperties.Http http = ocrProperties.http();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.maxConnTotal())
+                .setMaxConnPerRoute(http.maxConnPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(http.connectTimeout()))
+                        .setSocketTimeout(timeout(http.responseTimeout()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))                // 오래된 커넥션 주기적 교체 (DNS 변경 대응)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))   // 유휴 후 재사용 전 stale 검사
+                        .build())
+                .build();
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(registry));
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ocr.http", name = "http2", havingValue = "false", matchIfMissing = true)
+    public DeadlineHttpComponentsClientHttpRequestFactory ocrRequestFactory(OcrProperties ocrProperties,
+                                                                             PoolingHttpClientConnectionManager ocrConnectionManager) {
+        OcrProperties.Http http = ocrProperties.http();
+        TimeValue keepAlive = TimeValue.of(http.keepAlive());
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(ocrConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(http.connectionRequestTimeout()))
+                        .setResponseTimeout(timeout(http.responseTimeout()))
+                        .build())
+                // 서버 Keep-Alive 힌트와 keepAlive 중 짧은 쪽만큼 유지
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(serverHint) && serverHint.compareTo(keepAlive) < 0 ? serverHint : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+        return new DeadlineHttpComponentsClientHttpRequestFactory(httpClient, http.totalTimeout());
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory f = new SimpleClientHttpRequestFactory();
-        f.setConnectTimeout(5000);
-        f.setReadTimeout(15000);
-        return new RestTemplate(f);
+    @ConditionalOnProperty(prefix = "ocr.http", name = "http2", havingValue = "true")
+    public JdkClientHttpRequestFactory ocrHttp2RequestFactory(OcrProperties ocrProperties) {
+        OcrProperties.Http http = ocrProperties.http();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(http.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(http.totalTimeout());
+        return factory;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory ocrRequestFactory) {
+        return builder.requestFactory(() -> ocrRequestFactory).build();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.of(duration);
     }
 }
@@ -0,0 +1,41 @@
+package com.kumdoriGrow.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "kumdori.reward.outbox")
+public record RewardOutboxProperties(
+        Duration pollInterval,
+        int batchSize,
+        int maxConcurrency,
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+) {
+    public RewardOutboxProperties {
+        // 미설정/잘못된 값은 기본값으로 (부팅 안정성 보장)
+        if (pollInterval == null) {
+            pollInterval = Duration.ofSeconds(5);
+        }
+        if (batchSize <= 0) {
+            batchSize = 50;
+        }
+        if (maxConcurrency <= 0) {
+            maxConcurrency = 8;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 10;
+        }
+        if (initialBackoff == null) {
+            initialBackoff = Duration.ofSeconds(1);
+        }
+        if (maxBackoff == null) {
+            maxBackoff = Duration.ofMinutes(10);
+        }
+    }
+
+    public RewardOutboxProperties() {
+        this(null, 0, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.kumdoriGrow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치성 작업(@Scheduled) 활성화 - 각 작업의 주기는 개별 설정값으로 제어
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,29 @@
+package com.kumdoriGrow.backend.config;
+
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernelType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "kumdori.store-matching")
+public record StoreMatchingProperties(
+        EditDistanceKernelType kernel,
+        boolean jamoMatching,    // true면 음절 퍼지 매칭에 더해 자모 분해 + OCR 혼동 가중치 매칭
+        Integer candidateLimit,  // OCR 레이아웃 점수 상위 몇 줄을 가게명 후보로 매칭할지
+        Integer parallelism      // 영수증 한 건의 후보 매칭에 쓰는 스레드 수 (호출 스레드 포함, 1이면 순차)
+) {
+    public StoreMatchingProperties {
+        // 미설정 시 비트 병렬 커널 사용
+        if (kernel == null) {
+            kernel = EditDistanceKernelType.MYERS;
+        }
+        if (candidateLimit == null || candidateLimit <= 0) {
+            candidateLimit = 3;
+        }
+        if (parallelism == null || parallelism <= 0) {
+            parallelism = 1;
+        }
+    }
+
+    public StoreMatchingProperties() {
+        this(null, false, null, null);
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(CategoryChangeListener.class)
 @Table(name = "categories")
 public class Category {
     
@@ -0,0 +1,26 @@
+package com.kumdoriGrow.backend.domain.category;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category 엔티티 변경 감지용 JPA 엔티티 리스너
+ * - EntityManagerFactory 초기화 시점에 생성되므로 이벤트 발행만 하고 캐시 빈에는 직접 의존하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getCode()));
+    }
+}
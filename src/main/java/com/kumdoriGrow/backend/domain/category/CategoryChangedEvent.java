@@ -0,0 +1,8 @@
+package com.kumdoriGrow.backend.domain.category;
+
+/**
+ * categories 변경 이벤트 - 가중치 캐시 무효화 트리거용
+ */
+public record CategoryChangedEvent(
+    String code
+) {}
@@ -0,0 +1,40 @@
+package com.kumdoriGrow.backend.domain.category;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * 카테고리 가중치 조회 (로컬 캐시)
+ * - 캐시 설정은 spring.cache.caffeine.spec (TTL/최대 크기/통계)
+ * - 없는 코드도 빈 값으로 캐시해서 매번 DB까지 가지 않는다
+ * - categories 변경이 커밋되면 전체 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryWeightProvider {
+
+    public static final String CACHE_NAME = "categoryWeights";
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#categoryCode")
+    public Optional<BigDecimal> findWeight(String categoryCode) {
+        return categoryRepository.findById(categoryCode)
+                .map(category -> BigDecimal.valueOf(category.getWeight()));
+    }
+
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("[CategoryWeight] Category {} changed, cache invalidated", event.code());
+    }
+}
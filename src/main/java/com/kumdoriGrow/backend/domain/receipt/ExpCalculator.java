@@ -1,8 +1,7 @@
 package com.kumdoriGrow.backend.domain.receipt;
 
 import com.kumdoriGrow.backend.config.XpProperties;
-import com.kumdoriGrow.backend.domain.category.Category;
-import com.kumdoriGrow.backend.domain.category.CategoryRepository;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +14,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ExpCalculator {
     private final XpProperties xpProperties;
-    private final CategoryRepository categoryRepository;
+    private final CategoryWeightProvider categoryWeightProvider;
 
     // 설정이 없더라도 동작하도록 디폴트 맵(하드코딩) 준비
     private static final Map<String, BigDecimal> DEFAULT_WEIGHTS = Map.of(
@@ -39,10 +38,10 @@ public class ExpCalculator {
     }
     
     private BigDecimal getWeight(String categoryCode) {
-        // 1) DB에서 카테고리 조회
-        Optional<Category> category = categoryRepository.findById(categoryCode);
-        if (category.isPresent()) {
-            return BigDecimal.valueOf(category.get().getWeight());
+        // 1) DB 카테고리 가중치 (로컬 캐시 경유)
+        Optional<BigDecimal> categoryWeight = categoryWeightProvider.findWeight(categoryCode);
+        if (categoryWeight.isPresent()) {
+            return categoryWeight.get();
         }
         
         // 2) application.yml 설정 확인
@@ -0,0 +1,208 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 키워드 매처
+ * - 사전으로 한 번 만들어 두고 원문을 한 글자씩 넣으면 그 위치에서 끝나는 키워드의 payload를 모두 돌려준다
+ * - 글자당 비용은 키워드 수와 무관 (실패 링크 이동 포함 분할상환 상수)
+ * - 키워드 안의 공백 한 칸은 정규식 \s* 와 같다: "총 금액"은 총금액/총 금액/총\n금액 모두 매칭, 입력의 연속 공백은 한 칸으로 취급
+ */
+public final class KeywordAutomaton<T> {
+
+    public static final int ROOT = 0;
+    private static final char GAP = ' ';
+
+    private final long[] rootChars;      // 키워드 첫 글자 비트셋 - 대부분의 글자는 여기서 바로 ROOT로
+    private final char[][] edgeChars;    // 노드별 자식 글자 (정렬, 이진 탐색)
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final boolean[] gapNode;     // 공백으로 들어온 노드 - 이어지는 공백에서는 제자리
+    private final List<List<T>> matches; // 노드에서 끝나는 키워드 payload (실패 링크 쪽 포함, 중복 제거)
+
+    private KeywordAutomaton(char[][] edgeChars, int[][] edgeTargets, int[] fail, boolean[] gapNode, List<List<T>> matches) {
+        this.rootChars = new long[(Character.MAX_VALUE + 1) / Long.SIZE];
+        for (char c : edgeChars[ROOT]) rootChars[c >>> 6] |= 1L << c;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.gapNode = gapNode;
+        this.matches = matches;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * state에서 c를 읽은 다음 상태
+     */
+    public int next(int state, char c) {
+        char symbol = isWhitespace(c) ? GAP : c;
+        if (state == ROOT && (rootChars[symbol >>> 6] & (1L << symbol)) == 0) return ROOT;
+        int s = state;
+        while (true) {
+            if (symbol == GAP && gapNode[s]) return s;
+            int t = child(s, symbol);
+            if (t >= 0) return t;
+            if (s == ROOT) return ROOT;
+            s = fail[s];
+        }
+    }
+
+    /**
+     * state에 도달한 위치에서 끝나는 키워드들의 payload
+     */
+    public List<T> matchesAt(int state) {
+        return matches.get(state);
+    }
+
+    /**
+     * text 안에 payload로 등록한 키워드가 하나라도 있는지 (한 번의 순회)
+     */
+    public boolean contains(CharSequence text, T payload) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (matches.get(state).contains(payload)) return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return fail.length;
+    }
+
+    private int child(int node, char c) {
+        int k = Arrays.binarySearch(edgeChars[node], c);
+        return k >= 0 ? edgeTargets[node][k] : -1;
+    }
+
+    // 정규식 \s
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    public static final class Builder<T> {
+
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<List<T>> outputs = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        public Builder<T> add(String keyword, T payload) {
+            String k = collapseWhitespace(keyword);
+            if (k.isEmpty()) {
+                throw new IllegalArgumentException("Blank keyword");
+            }
+            addVariants(k, 0, new StringBuilder(), payload);
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<String> keywords, T payload) {
+            for (String k : keywords) add(k, payload);
+            return this;
+        }
+
+        public KeywordAutomaton<T> build() {
+            int n = children.size();
+            char[][] edgeChars = new char[n][];
+            int[][] edgeTargets = new int[n][];
+            boolean[] gapNode = new boolean[n];
+            for (int node = 0; node < n; node++) {
+                TreeMap<Character, Integer> edges = children.get(node);
+                edgeChars[node] = new char[edges.size()];
+                edgeTargets[node] = new int[edges.size()];
+                int k = 0;
+                for (Map.Entry<Character, Integer> e : edges.entrySet()) {
+                    edgeChars[node][k] = e.getKey();
+                    edgeTargets[node][k] = e.getValue();
+                    gapNode[e.getValue()] = e.getKey() == GAP;
+                    k++;
+                }
+            }
+
+            // BFS로 실패 링크 계산, 실패 링크 쪽 출력 합치기
+            int[] fail = new int[n];
+            List<List<T>> matches = new ArrayList<>(outputs);
+            ArrayDeque<Integer> queue = new ArrayDeque<>(children.get(ROOT).values());
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> e : children.get(node).entrySet()) {
+                    char c = e.getKey();
+                    int target = e.getValue();
+                    int f = fail[node];
+                    while (f != ROOT && !children.get(f).containsKey(c)) f = fail[f];
+                    Integer via = children.get(f).get(c);
+                    fail[target] = via != null ? via : ROOT;
+
+                    List<T> merged = new ArrayList<>(matches.get(target));
+                    for (T payload : matches.get(fail[target])) {
+                        if (!merged.contains(payload)) merged.add(payload);
+                    }
+                    matches.set(target, merged);
+                    queue.add(target);
+                }
+            }
+            matches.replaceAll(List::copyOf);
+            return new KeywordAutomaton<>(edgeChars, edgeTargets, fail, gapNode, matches);
+        }
+
+        // 공백 한 칸마다 "있음/없음" 두 갈래를 모두 등록
+        private void addVariants(String keyword, int from, StringBuilder prefix, T payload) {
+            int gap = keyword.indexOf(GAP, from);
+            if (gap < 0) {
+                insert(prefix + keyword.substring(from), payload);
+                return;
+            }
+            int length = prefix.length();
+            prefix.append(keyword, from, gap);
+            addVariants(keyword, gap + 1, prefix, payload);
+            prefix.append(GAP);
+            addVariants(keyword, gap + 1, prefix, payload);
+            prefix.setLength(length);
+        }
+
+        private void insert(String word, T payload) {
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = newNode();
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            if (!outputs.get(node).contains(payload)) outputs.get(node).add(payload);
+        }
+
+        private int newNode() {
+            children.add(new TreeMap<>());
+            outputs.add(new ArrayList<>());
+            return children.size() - 1;
+        }
+
+        private static String collapseWhitespace(String s) {
+            StringBuilder sb = new StringBuilder(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (isWhitespace(c)) {
+                    if (sb.length() > 0 && sb.charAt(sb.length() - 1) != GAP) sb.append(GAP);
+                } else {
+                    sb.append(c);
+                }
+            }
+            int end = sb.length();
+            if (end > 0 && sb.charAt(end - 1) == GAP) sb.setLength(end - 1);
+            return sb.toString();
+        }
+    }
+}
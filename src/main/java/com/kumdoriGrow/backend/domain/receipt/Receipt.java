@@ -10,7 +10,9 @@ import java.time.Instant;
 })
 public class Receipt {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 Hibernate 배치가 꺼진다 - 50개씩 미리 할당받는 시퀀스 사용 (MySQL은 테이블로 에뮬레이션)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "receipts_seq")
+    @SequenceGenerator(name = "receipts_seq", sequenceName = "receipts_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,158 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptBatchRes;
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptReq;
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptRes;
+import com.kumdoriGrow.backend.domain.store.StoreMatchResult;
+import com.kumdoriGrow.backend.domain.store.StoreResolver;
+import com.kumdoriGrow.backend.domain.user.User;
+import com.kumdoriGrow.backend.domain.user.UserRepository;
+import com.kumdoriGrow.backend.domain.xp.UserExperienceService;
+import com.kumdoriGrow.backend.domain.xp.XpAward;
+import com.kumdoriGrow.backend.domain.xp.XpChange;
+import com.kumdoriGrow.backend.domain.xp.XpLedger;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 영수증 일괄 등록 (오프라인 동기화 등 제휴 연동용)
+ * - 사용자 확인은 한 번의 IN 조회, 가게 매칭은 배치 안에서 같은 OCR 텍스트끼리 결과를 공유
+ * - 영수증 INSERT는 Hibernate JDBC 배치(풀링 시퀀스 id), 경험치는 XpLedger.recordAll로 사용자당 스냅샷 UPDATE 한 번
+ * - 레벨업 이벤트는 배치당 사용자별로 한 번만 발행 (배치 전 레벨 → 배치 후 레벨)
+ * - 항목 단위 실패(검증/사용자 없음/카테고리 오류)는 해당 항목만 FAILED로 표시하고 나머지는 등록한다.
+ *   DB 오류처럼 배치 전체에 걸친 실패는 트랜잭션 전체를 롤백한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReceiptBatchService {
+
+    private final ReceiptRepository receiptRepository;
+    private final UserRepository userRepository;
+    private final StoreResolver storeResolver;
+    private final ReceiptClassifier receiptClassifier;
+    private final UserExperienceService userExperienceService;
+    private final XpLedger xpLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @Transactional
+    public CreateReceiptBatchRes createAll(List<CreateReceiptReq> items) {
+        CreateReceiptBatchRes.Item[] results = new CreateReceiptBatchRes.Item[items.size()];
+
+        // 1. 항목 검증 + 사용자 존재 확인 (IN 한 번)
+        Set<Long> userIds = items.stream()
+                .map(CreateReceiptReq::userId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingUsers = userRepository.findAllById(userIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        List<Pending> pending = new ArrayList<>(items.size());
+        Map<String, StoreMatchResult> matchCache = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateReceiptReq req = items.get(i);
+            String invalid = validate(req);
+            if (invalid != null) {
+                results[i] = CreateReceiptBatchRes.Item.failed(i, HttpStatus.BAD_REQUEST.value(), invalid);
+            } else if (!existingUsers.contains(req.userId())) {
+                results[i] = CreateReceiptBatchRes.Item.failed(i, HttpStatus.NOT_FOUND.value(), "User not found");
+            } else if (!receiptClassifier.isValidCategoryCode(req.categoryCode())) {
+                results[i] = CreateReceiptBatchRes.Item.failed(i, HttpStatus.BAD_REQUEST.value(),
+                        "Invalid category code: " + req.categoryCode());
+            } else {
+                // 2. 가게 매칭 (같은 OCR 텍스트는 배치 안에서 한 번만) + 분류/경험치
+                StoreMatchResult match = req.ocrRaw() == null
+                        ? StoreMatchResult.noMatch()
+                        : matchCache.computeIfAbsent(req.ocrRaw(), this::safeResolveStore);
+                Receipt r = new Receipt();
+                r.setUserId(req.userId());
+                r.setTotalAmount(req.totalAmount());
+                r.setImagePath(req.imagePath());
+                r.setOcrRaw(req.ocrRaw());
+                int exp = receiptClassifier.classify(r, req, match);
+                pending.add(new Pending(i, r, exp, match));
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            // 3. 영수증 INSERT (배치) → 4. 경험치 원장 일괄 기록
+            long[] ids = insert(pending);
+            List<XpAward> awards = new ArrayList<>(pending.size());
+            for (int p = 0; p < pending.size(); p++) {
+                awards.add(XpAward.forReceipt(pending.get(p).receipt().getUserId(), ids[p], pending.get(p).exp()));
+            }
+            Map<Long, XpChange> changes = xpLedger.recordAll(awards);
+
+            // 5. 항목별 적립 후 누적 경험치는 사용자별 배치 전 값에서 입력 순서대로 더해 계산
+            Map<Long, Long> running = new HashMap<>();
+            Map<Long, Long> lastReceiptId = new HashMap<>();
+            for (int p = 0; p < pending.size(); p++) {
+                Pending item = pending.get(p);
+                Long userId = item.receipt().getUserId();
+                long total = running.getOrDefault(userId, changes.get(userId).oldTotal()) + item.exp();
+                running.put(userId, total);
+                lastReceiptId.put(userId, ids[p]);
+                results[item.index()] = CreateReceiptBatchRes.Item.created(item.index(), new CreateReceiptRes(
+                        ids[p], item.exp(), total, userExperienceService.levelOf(total),
+                        item.match().isMatched() ? item.match().getStore().getName() : null,
+                        item.match().getConfidence()));
+            }
+
+            // 6. 레벨업 이벤트 - 사용자당 한 번
+            changes.forEach((userId, xp) -> {
+                if (xp.leveledUp()) {
+                    eventPublisher.publishEvent(new LevelUpEvent(userId, xp.oldLevel(), xp.newLevel(), lastReceiptId.get(userId)));
+                }
+            });
+        }
+
+        CreateReceiptBatchRes response = CreateReceiptBatchRes.of(Arrays.asList(results));
+        log.info("Receipt batch processed: requested={}, created={}, failed={}, users={}, distinctOcrTexts={}",
+                response.requested(), response.created(), response.failed(), userIds.size(), matchCache.size());
+        return response;
+    }
+
+    private String validate(CreateReceiptReq req) {
+        if (req == null) {
+            return "Empty item";
+        }
+        Set<ConstraintViolation<CreateReceiptReq>> violations = validator.validate(req);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private StoreMatchResult safeResolveStore(String ocrRawText) {
+        try {
+            return storeResolver.resolve(ocrRawText);
+        } catch (Exception e) {
+            log.warn("Store resolution failed, proceeding with manual review", e);
+            return StoreMatchResult.noMatch();
+        }
+    }
+
+    // 시퀀스 풀(allocationSize 50)에서 id를 받아 두고, INSERT는 flush 시 hibernate.jdbc.batch_size 단위 배치로 나간다
+    private long[] insert(List<Pending> pending) {
+        List<Receipt> receipts = receiptRepository.saveAll(pending.stream().map(Pending::receipt).toList());
+        receiptRepository.flush();
+        return receipts.stream().mapToLong(Receipt::getId).toArray();
+    }
+
+    private record Pending(int index, Receipt receipt, int exp, StoreMatchResult match) {
+    }
+}
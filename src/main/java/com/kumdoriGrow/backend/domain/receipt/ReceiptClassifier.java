@@ -0,0 +1,82 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptReq;
+import com.kumdoriGrow.backend.domain.store.StoreMatchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영수증 분류 규칙 - 가게 매칭 결과와 요청 값으로 가게명/카테고리/상태/경험치를 정한다
+ * - 단건 등록(ReceiptService)과 일괄 등록(ReceiptBatchService)이 같은 규칙을 쓰도록 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptClassifier {
+
+    private static final double MATCH_CONFIDENCE_THRESHOLD = 0.85;
+
+    private final ExpCalculator expCalculator;
+
+    public boolean isValidCategoryCode(String categoryCode) {
+        if (categoryCode == null || categoryCode.trim().isEmpty()) {
+            return false;
+        }
+        String code = categoryCode.trim().toUpperCase();
+        return code.equals("FRANCHISE") || code.equals("LOCAL") || code.equals("MARKET");
+    }
+
+    /**
+     * 매칭 결과를 영수증에 반영하고 지급할 경험치를 계산해 expAwarded까지 채운다
+     */
+    public int classify(Receipt r, CreateReceiptReq req, StoreMatchResult matchResult) {
+        String finalCategoryCode;
+        String finalStoreName;
+
+        if (matchResult.isMatched() && matchResult.getConfidence() >= MATCH_CONFIDENCE_THRESHOLD) {
+            // 매칭 성공: DB에서 찾은 가게 정보 사용
+            log.info("Store matched: {} (confidence: {})",
+                matchResult.getStore().getName(), matchResult.getConfidence());
+
+            finalStoreName = matchResult.getStore().getName();
+            finalCategoryCode = matchResult.getStore().getCategoryCode();
+            r.setMatchedStoreId(matchResult.getStore().getId());
+            r.setStoreNameConfidence(matchResult.getConfidence());
+            r.setStatus("DONE");
+
+        } else {
+            // 매칭 실패: 요청 데이터 사용 또는 수동 리뷰 필요
+            finalStoreName = req.storeName() != null ? req.storeName() : "미확인 가게";
+
+            if (req.categoryCode() == null || req.categoryCode().trim().isEmpty()) {
+                // 카테고리도 없으면 수동 리뷰 필요
+                r.setStatus("NEED_REVIEW");
+                finalCategoryCode = null; // null 허용
+                log.warn("Store matching failed and no category provided. Receipt needs manual review.");
+            } else {
+                finalCategoryCode = req.categoryCode();
+                r.setStatus("DONE");
+                log.info("Using provided store info: {} ({})", finalStoreName, finalCategoryCode);
+            }
+        }
+
+        r.setStoreName(finalStoreName);
+        r.setCategoryCode(finalCategoryCode);
+
+        // 경험치 계산 (NPE 방지)
+        int exp = safeCalculateExp(req.totalAmount(), finalCategoryCode);
+        r.setExpAwarded(exp);
+        return exp;
+    }
+
+    private int safeCalculateExp(long amount, String categoryCode) {
+        try {
+            return expCalculator.calcExp(amount, categoryCode);
+        } catch (Exception e) {
+            log.warn("Experience calculation failed, using default value", e);
+            // 기본 경험치 계산 (amount / 100, 최소 1)
+            return Math.max(1, (int) (amount / 100));
+        }
+    }
+}
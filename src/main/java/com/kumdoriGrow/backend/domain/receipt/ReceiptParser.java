@@ -1,67 +1,286 @@
 package com.kumdoriGrow.backend.domain.receipt;
 
+import com.kumdoriGrow.backend.config.ReceiptKeywordProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import java.text.Normalizer;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+/**
+ * OCR 원문에서 가게명/합계 금액 추출
+ * - 원문을 한 번만 훑으면서 줄 경계, 합계 키워드, 천 단위 금액(12,300)을 함께 인식 (split/replaceAll/패턴 재컴파일 없음)
+ * - 필드 키워드(kumdori.receipt.keywords.*)는 기동 시 KeywordAutomaton 하나로 만들어 두므로 키워드가 늘어도 영수증당 비용은 같다
+ * - 결과는 기존 정규식 구현과 같다 (줄 구분 = \R, 공백 = \s, 키워드 뒤 공백/콜론/₩ 허용 규칙 그대로)
+ */
 @Component
 public class ReceiptParser {
-    public String extractStoreName(String raw) {
-        if (raw == null || raw.isBlank()) return null;
-        String[] lines = raw.split("\\R+");
-        int limit = Math.min(lines.length, 12);
-        for (int i = 0; i < limit; i++) {
-            String line = normalize(lines[i]);
-            if (line.isBlank()) continue;
-            if (containsAny(line, "사업자", "사업자등록", "대표자", "주소", "전화", "TEL", "고객", "영수증")) break;
-            if (line.replaceAll("[0-9\\p{Punct}\\s]", "").length() < 2) continue;
-            return line.replaceAll("\\s{2,}", " ").trim();
+
+    private static final int HEADER_LINES = 12; // 가게명 후보로 보는 앞쪽 줄 수
+    private static final int TAIL_LINES = 12;   // 합계 키워드가 없을 때 금액을 찾는 뒤쪽 줄 수
+    private static final char WON = '₩';
+
+    private enum Field { HEADER_STOP, TOTAL }
+
+    private final KeywordAutomaton<Field> keywords;
+    private final boolean[] totalAt;  // 상태별 합계 키워드 끝 여부 (순회 중 리스트 조회 없이)
+    private final Pattern storeLabel; // 머리 줄에서 가게명을 못 찾았을 때만 쓰는 보조 규칙
+
+    public record Parsed(String storeName, Integer totalPrice) {
+        private static final Parsed EMPTY = new Parsed(null, null);
+    }
+
+    @Autowired
+    public ReceiptParser(ReceiptKeywordProperties props) {
+        this.keywords = KeywordAutomaton.<Field>builder()
+                .addAll(props.headerStop(), Field.HEADER_STOP)
+                .addAll(props.total(), Field.TOTAL)
+                .build();
+        this.totalAt = new boolean[keywords.size()];
+        for (int state = 0; state < totalAt.length; state++) {
+            totalAt[state] = keywords.matchesAt(state).contains(Field.TOTAL);
         }
-        Matcher m = Pattern.compile("(상호|가맹점명|매장명)\\s*[:\\-]?\\s*(.+)").matcher(raw);
-        if (m.find()) return cleanTail(m.group(2));
-        return null;
+        this.storeLabel = Pattern.compile("(" + alternation(props.storeLabel()) + ")\\s*[:\\-]?\\s*(.+)");
+    }
+
+    // 기본 키워드 사전
+    public ReceiptParser() {
+        this(new ReceiptKeywordProperties());
+    }
+
+    public String extractStoreName(String raw) {
+        return parse(raw).storeName();
     }
 
     public Integer extractTotalPrice(String raw) {
-        if (raw == null || raw.isBlank()) return null;
-        String pattern = "(합계|총액|총\\s*금액|결제\\s*금액|신용카드\\s*결제|카드\\s*결제|현금\\s*결제)\\s*[:\\-]?\\s*₩?\\s*([0-9,]+)";
-        Matcher m = Pattern.compile(pattern).matcher(raw);
-        int best = -1;
-        while (m.find()) {
-            int v = parseIntSafe(m.group(2));
-            if (v > best) best = v;
+        return parse(raw).totalPrice();
+    }
+
+    /**
+     * 가게명과 합계 금액을 한 번의 순회로 추출
+     */
+    public Parsed parse(String raw) {
+        if (raw == null || raw.isBlank()) return Parsed.EMPTY;
+        return new Scan(raw).run();
+    }
+
+    /**
+     * 호출 1회분 순회 상태
+     */
+    private final class Scan {
+        private final String raw;
+        private final int n;
+
+        // 가게명: split("\\R+")와 같은 줄 번호 - 원문이 줄바꿈으로 시작하면 빈 첫 줄도 한 줄로 센다
+        private final int headerLimit;
+        private boolean headerDone;
+        private String storeName;
+
+        // 합계: 키워드 뒤 금액 중 최대, 천 단위 금액 매치는 정규식 find처럼 겹치지 않게 진행
+        private int keywordBest = -1;
+        private int state = KeywordAutomaton.ROOT;
+        private int amountNext;
+
+        // 줄 단위 상태, 최근 TAIL_LINES 줄의 최대 금액 (원형 버퍼)
+        private final int[] tailMax = new int[TAIL_LINES];
+        private int lines;
+        private int lineStart = -1;
+        private int lineMax;
+
+        Scan(String raw) {
+            this.raw = raw;
+            this.n = raw.length();
+            this.headerLimit = isLineBreak(raw.charAt(0)) ? HEADER_LINES - 1 : HEADER_LINES;
+        }
+
+        Parsed run() {
+            for (int i = 0; i < n; i++) {
+                char c = raw.charAt(i);
+                state = keywords.next(state, c);
+                if (totalAt[state]) {
+                    matchTotal(i + 1);
+                }
+                if (isLineBreak(c)) {
+                    if (lineStart >= 0) endLine(i);
+                    continue;
+                }
+                if (lineStart < 0) {
+                    lineStart = i;
+                    lineMax = -1;
+                }
+                if (i >= amountNext && isDigit(c)) {
+                    matchGroupedAmount(i);
+                }
+            }
+            if (lineStart >= 0) endLine(n);
+
+            if (storeName == null) {
+                Matcher m = storeLabel.matcher(raw);
+                if (m.find()) storeName = cleanTail(m.group(2));
+            }
+
+            int best = keywordBest;
+            if (best <= 0) {
+                for (int k = 0, count = Math.min(lines, TAIL_LINES); k < count; k++) {
+                    if (tailMax[k] > best) best = tailMax[k];
+                }
+            }
+            return new Parsed(storeName, best > 0 ? best : null);
+        }
+
+        private void endLine(int end) {
+            if (!headerDone && lines < headerLimit) {
+                acceptHeader(normalize(raw.substring(lineStart, end)));
+            }
+            tailMax[lines % TAIL_LINES] = lineMax;
+            lines++;
+            lineStart = -1;
         }
-        if (best > 0) return best;
-
-        String[] lines = raw.split("\\R+");
-        for (int i = lines.length - 1; i >= Math.max(0, lines.length - 12); i--) {
-            Matcher m2 = Pattern.compile("([0-9]{1,3}(?:,[0-9]{3})+)").matcher(lines[i]);
-            while (m2.find()) {
-                int v = parseIntSafe(m2.group(1));
-                if (v > best) best = v;
+
+        private void acceptHeader(String line) {
+            if (line.isBlank()) return;
+            if (keywords.contains(line, Field.HEADER_STOP)) {
+                headerDone = true;
+                return;
             }
+            if (countWordChars(line) < 2) return;
+            storeName = collapseWhitespace(line);
+            headerDone = true;
+        }
+
+        /**
+         * 합계 키워드 뒤 \\s*[:\\-]?\\s*₩?\\s*([0-9,]+)
+         * - 겹치는 키워드(신용카드 결제 / 카드 결제)는 같은 금액을 가리키므로 모든 출현을 보고 최대값만 남긴다
+         */
+        private void matchTotal(int p) {
+            p = skipWhitespace(p);
+            if (p < n && (raw.charAt(p) == ':' || raw.charAt(p) == '-')) p = skipWhitespace(p + 1);
+            if (p < n && raw.charAt(p) == WON) p = skipWhitespace(p + 1);
+            int end = p;
+            while (end < n && (isDigit(raw.charAt(end)) || raw.charAt(end) == ',')) end++;
+            if (end == p) return;
+            keywordBest = Math.max(keywordBest, parseDigits(p, end));
+        }
+
+        /**
+         * [0-9]{1,3}(?:,[0-9]{3})+ - 앞자리는 3→2→1자리 순으로 시도, 뒤 그룹은 가능한 만큼
+         */
+        private void matchGroupedAmount(int i) {
+            for (int lead = 3; lead >= 1; lead--) {
+                if (!digitsAt(i, lead)) continue;
+                int end = i + lead;
+                while (end + 3 < n && raw.charAt(end) == ',' && digitsAt(end + 1, 3)) end += 4;
+                if (end > i + lead) {
+                    amountNext = end;
+                    lineMax = Math.max(lineMax, parseDigits(i, end));
+                    return;
+                }
+            }
+        }
+
+        private boolean digitsAt(int from, int count) {
+            if (from + count > n) return false;
+            for (int k = from; k < from + count; k++) {
+                if (!isDigit(raw.charAt(k))) return false;
+            }
+            return true;
+        }
+
+        private int skipWhitespace(int p) {
+            while (p < n && isWhitespace(raw.charAt(p))) p++;
+            return p;
+        }
+
+        // 쉼표를 뺀 숫자 (Integer.parseInt와 같이 숫자가 없거나 범위를 넘으면 -1)
+        private int parseDigits(int from, int to) {
+            long v = 0;
+            boolean any = false;
+            for (int k = from; k < to; k++) {
+                char c = raw.charAt(k);
+                if (c == ',') continue;
+                any = true;
+                v = v * 10 + (c - '0');
+                if (v > Integer.MAX_VALUE) return -1;
+            }
+            return any ? (int) v : -1;
         }
-        return best > 0 ? best : null;
     }
 
     // ===== helpers =====
-    private String normalize(String s) {
-        String t = Normalizer.normalize(s, Normalizer.Form.NFC);
-        return t.replaceAll("[\\u200B-\\u200D\\uFEFF]", "").trim();
-    }
-    private boolean containsAny(String src, String... tokens) {
-        for (String t : tokens) if (src.contains(t)) return true;
-        return false;
-    }
-    private String cleanTail(String s) {
-        return s.replaceAll("[\\*\\|]+$", "").replaceAll("\\s{2,}", " ").trim();
-    }
-    private int parseIntSafe(String n) {
-        try {
-            return Integer.parseInt(n.replaceAll(",", ""));
-        } catch (Exception e) {
-            return -1;
+    private static String normalize(String s) {
+        String t = Normalizer.isNormalized(s, Normalizer.Form.NFC) ? s : Normalizer.normalize(s, Normalizer.Form.NFC);
+        StringBuilder sb = null;
+        for (int k = 0; k < t.length(); k++) {
+            char c = t.charAt(k);
+            boolean zeroWidth = (c >= '\u200B' && c <= '\u200D') || c == '\uFEFF';
+            if (zeroWidth && sb == null) sb = new StringBuilder(t.length()).append(t, 0, k);
+            else if (!zeroWidth && sb != null) sb.append(c);
         }
+        return (sb == null ? t : sb.toString()).trim();
+    }
+
+    // 라벨 키워드 → 정규식 대안 (키워드 안 공백은 \\s*)
+    private static String alternation(List<String> labels) {
+        return labels.stream()
+                .map(String::strip)
+                .map(label -> Pattern.quote(label).replaceAll("\\s+", "\\\\E\\\\s*\\\\Q"))
+                .collect(Collectors.joining("|"));
+    }
+
+    // 숫자/ASCII 구두점/공백을 뺀 글자 수 (2 이상이면 판단 가능)
+    private static int countWordChars(String s) {
+        int count = 0;
+        for (int k = 0; k < s.length() && count < 2; k++) {
+            char c = s.charAt(k);
+            if (!isDigit(c) && !isAsciiPunct(c) && !isWhitespace(c)) count++;
+        }
+        return count;
+    }
+
+    private static String cleanTail(String s) {
+        int end = s.length();
+        while (end > 0 && (s.charAt(end - 1) == '*' || s.charAt(end - 1) == '|')) end--;
+        return collapseWhitespace(s.substring(0, end));
+    }
+
+    // \s{2,} → " " 후 trim
+    private static String collapseWhitespace(String s) {
+        StringBuilder sb = null;
+        int k = 0;
+        while (k < s.length()) {
+            char c = s.charAt(k);
+            int run = k;
+            while (run < s.length() && isWhitespace(s.charAt(run))) run++;
+            if (run - k >= 2) {
+                if (sb == null) sb = new StringBuilder(s.length()).append(s, 0, k);
+                sb.append(' ');
+                k = run;
+                continue;
+            }
+            if (sb != null) sb.append(c);
+            k++;
+        }
+        return (sb == null ? s : sb.toString()).trim();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return KeywordAutomaton.isWhitespace(c);
+    }
+
+    // 정규식 \R
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // 정규식 \p{Punct} (ASCII 구두점)
+    private static boolean isAsciiPunct(char c) {
+        return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
     }
 }
@@ -1,25 +1,38 @@
 package com.kumdoriGrow.backend.domain.receipt;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ReceiptRepository extends JpaRepository<Receipt, Long> {
-    @Query("select coalesce(sum(r.expAwarded), 0) from Receipt r where r.userId = :userId")
-    long sumExpByUser(@Param("userId") Long userId);
 
-    Page<Receipt> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
-    
-    // 보상 관련 조회 메서드들
-    List<Receipt> findByUserIdAndStatus(Long userId, String status);
-    
-    long countByUserIdAndStatus(Long userId, String status);
-    
-    Page<Receipt> findByUserIdAndStatusOrderByRecognizedAtDesc(Long userId, String status, Pageable pageable);
-    
-    boolean existsByUserIdAndStatusAndOcrRawContaining(Long userId, String status, String ocrRawContent);
+    // 목록 조회는 ReceiptSummary 생성자 프로젝션으로 표시 컬럼만 읽는다
+    String SUMMARY_SELECT = """
+            select new com.kumdoriGrow.backend.domain.receipt.ReceiptSummary(
+                r.id, r.storeName, r.totalAmount, r.categoryCode, r.expAwarded, r.status,
+                r.createdAt, r.matchedStoreId, r.storeNameConfidence)
+            from Receipt r
+            """;
+
+    @Query(value = SUMMARY_SELECT + "where r.userId = :userId order by r.createdAt desc",
+            countQuery = "select count(r) from Receipt r where r.userId = :userId")
+    Page<ReceiptSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 키셋 페이지네이션 (idx_receipts_user_created 범위 스캔, OFFSET/count 없음)
+    @Query(SUMMARY_SELECT + "where r.userId = :userId order by r.createdAt desc, r.id desc")
+    List<ReceiptSummary> findFirstSummaries(@Param("userId") Long userId, Limit limit);
+
+    @Query(SUMMARY_SELECT + """
+            where r.userId = :userId
+              and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReceiptSummary> findSummariesAfter(@Param("userId") Long userId, @Param("createdAt") Instant createdAt,
+                                            @Param("id") Long id, Limit limit);
 }
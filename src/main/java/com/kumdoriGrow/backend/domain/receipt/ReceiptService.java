@@ -3,6 +3,7 @@ package com.kumdoriGrow.backend.domain.receipt;
 
 import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptReq;
 import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptRes;
+import com.kumdoriGrow.backend.api.receipt.dto.ReceiptOcrRawRes;
 import com.kumdoriGrow.backend.api.receipt.dto.ReceiptResponse;
 import com.kumdoriGrow.backend.api.receipt.dto.XpRes;
 import com.kumdoriGrow.backend.config.OcrProperties;
@@ -10,13 +11,23 @@ import com.kumdoriGrow.backend.config.OcrProperties;
 import com.kumdoriGrow.backend.domain.store.StoreMatchResult;
 import com.kumdoriGrow.backend.domain.store.StoreResolver;
 import com.kumdoriGrow.backend.domain.user.UserRepository;
+import com.kumdoriGrow.backend.domain.xp.UserExperienceService;
+import com.kumdoriGrow.backend.domain.xp.XpAward;
+import com.kumdoriGrow.backend.domain.xp.XpChange;
+import com.kumdoriGrow.backend.domain.xp.XpLedger;
 import com.kumdoriGrow.backend.infra.ocr.ClovaOcrClient;
+import com.kumdoriGrow.backend.infra.ocr.OcrImagePreprocessor;
+import com.kumdoriGrow.backend.infra.ocr.OcrResultCache;
+import com.kumdoriGrow.backend.infra.ocr.OcrUnavailableException;
 import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import com.kumdoriGrow.backend.support.Cursor;
+import com.kumdoriGrow.backend.support.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
@@ -24,6 +35,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -31,27 +43,42 @@ import java.util.Optional;
 public class ReceiptService {
 
     private final ReceiptRepository receiptRepository;
-    private final ExpCalculator expCalculator;
+    private final ReceiptClassifier receiptClassifier;
     private final UserRepository userRepository;
+    private final UserExperienceService userExperienceService;
+    private final XpLedger xpLedger;
     private final StoreResolver storeResolver;
+    private final StoreNameCandidateExtractor storeNameCandidateExtractor;
     private final Optional<ClovaOcrClient> ocrClient;
     private final OcrProperties ocrProperties;
+    private final OcrResultCache ocrResultCache;
+    private final OcrImagePreprocessor ocrImagePreprocessor;
     private final ApplicationEventPublisher eventPublisher;
 
     public ReceiptService(
             ReceiptRepository receiptRepository,
-            ExpCalculator expCalculator,
+            ReceiptClassifier receiptClassifier,
             UserRepository userRepository,
+            UserExperienceService userExperienceService,
+            XpLedger xpLedger,
             StoreResolver storeResolver,
+            StoreNameCandidateExtractor storeNameCandidateExtractor,
             @Autowired(required = false) ClovaOcrClient ocrClient,
             OcrProperties ocrProperties,
+            OcrResultCache ocrResultCache,
+            OcrImagePreprocessor ocrImagePreprocessor,
             ApplicationEventPublisher eventPublisher) {
         this.receiptRepository = receiptRepository;
-        this.expCalculator = expCalculator;
+        this.receiptClassifier = receiptClassifier;
         this.userRepository = userRepository;
+        this.userExperienceService = userExperienceService;
+        this.xpLedger = xpLedger;
         this.storeResolver = storeResolver;
+        this.storeNameCandidateExtractor = storeNameCandidateExtractor;
         this.ocrClient = Optional.ofNullable(ocrClient);
         this.ocrProperties = ocrProperties;
+        this.ocrResultCache = ocrResultCache;
+        this.ocrImagePreprocessor = ocrImagePreprocessor;
         this.eventPublisher = eventPublisher;
     }
 
@@ -63,7 +90,7 @@ public class ReceiptService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
         // 카테고리 유효성 검사
-        if (req.categoryCode() != null && !isValidCategoryCode(req.categoryCode())) {
+        if (req.categoryCode() != null && !receiptClassifier.isValidCategoryCode(req.categoryCode())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid category code: " + req.categoryCode());
         }
 
@@ -77,57 +104,20 @@ public class ReceiptService {
             // 1. OCR 텍스트로 가게 매칭 시도
             StoreMatchResult matchResult = safeResolveStore(req.ocrRaw());
             
-            String finalCategoryCode;
-            String finalStoreName;
-            
-            if (matchResult.isMatched() && matchResult.getConfidence() >= 0.85) {
-                // 매칭 성공: DB에서 찾은 가게 정보 사용
-                log.info("Store matched: {} (confidence: {})", 
-                    matchResult.getStore().getName(), matchResult.getConfidence());
-                
-                finalStoreName = matchResult.getStore().getName();
-                finalCategoryCode = matchResult.getStore().getCategoryCode();
-                r.setMatchedStoreId(matchResult.getStore().getId());
-                r.setStoreNameConfidence(matchResult.getConfidence());
-                r.setStatus("DONE");
-                
-            } else {
-                // 매칭 실패: 요청 데이터 사용 또는 수동 리뷰 필요
-                finalStoreName = req.storeName() != null ? req.storeName() : "미확인 가게";
-                
-                if (req.categoryCode() == null || req.categoryCode().trim().isEmpty()) {
-                    // 카테고리도 없으면 수동 리뷰 필요
-                    r.setStatus("NEED_REVIEW");
-                    finalCategoryCode = null; // null 허용
-                    log.warn("Store matching failed and no category provided. Receipt needs manual review.");
-                } else {
-                    finalCategoryCode = req.categoryCode();
-                    r.setStatus("DONE");
-                    log.info("Using provided store info: {} ({})", finalStoreName, finalCategoryCode);
-                }
-            }
-            
-            r.setStoreName(finalStoreName);
-            r.setCategoryCode(finalCategoryCode);
-            
-            // 2. 경험치 계산 (NPE 방지)
-            int exp = safeCalculateExp(req.totalAmount(), finalCategoryCode);
-            r.setExpAwarded(exp);
+            // 2. 가게명/카테고리/상태 결정 + 경험치 계산
+            int exp = receiptClassifier.classify(r, req, matchResult);
             
             receiptRepository.save(r);
 
-            // 3. 사용자 총 경험치 및 레벨 계산
-            long oldTotal = receiptRepository.sumExpByUser(req.userId()) - exp; // 이전 경험치
-            long newTotal = oldTotal + exp; // 새 경험치
-            int oldLevel = expCalculator.levelOf(oldTotal);
-            int newLevel = expCalculator.levelOf(newTotal);
+            // 3. 경험치 원장 기록 + 누적 스냅샷 반영 (전체 영수증 SUM 없이)
+            XpChange xp = xpLedger.record(XpAward.forReceipt(req.userId(), r.getId(), exp));
             
             // 4. 레벨업 시 이벤트 발행 (포인트 박스 개봉 트리거)
-            if (newLevel > oldLevel) {
-                eventPublisher.publishEvent(new LevelUpEvent(req.userId(), oldLevel, newLevel, r.getId()));
+            if (xp.leveledUp()) {
+                eventPublisher.publishEvent(new LevelUpEvent(req.userId(), xp.oldLevel(), xp.newLevel(), r.getId()));
             }
 
-            return new CreateReceiptRes(r.getId(), exp, newTotal, newLevel, 
+            return new CreateReceiptRes(r.getId(), exp, xp.newTotal(), xp.newLevel(), 
                 matchResult.isMatched() ? matchResult.getStore().getName() : null,
                 matchResult.getConfidence());
                 
@@ -141,36 +131,37 @@ public class ReceiptService {
 
     // 누적 경험치/레벨
     public XpRes getXp(long userId) {
-        long total = receiptRepository.sumExpByUser(userId);
-        int level = expCalculator.levelOf(total);
+        long total = userExperienceService.getTotalExp(userId);
+        int level = userExperienceService.levelOf(total);
         return new XpRes(total, level);
     }
 
-    // 최근 영수증 목록
-    public Page<Receipt> list(long userId, int page, int size) {
-        return receiptRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size));
+    // 최근 영수증 목록 (표시 컬럼만)
+    public Page<ReceiptSummary> list(long userId, int page, int size) {
+        return receiptRepository.findSummariesByUserId(userId, PageRequest.of(page, size));
+    }
+
+    // 최근 영수증 목록 - 커서 기반 (created_at, id 내림차순, 깊은 페이지도 인덱스 범위 스캔)
+    public CursorPage<ReceiptSummary> listAfter(long userId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<ReceiptSummary> fetched = after == null
+                ? receiptRepository.findFirstSummaries(userId, limit)
+                : receiptRepository.findSummariesAfter(userId, after.at(), after.id(), limit);
+        return CursorPage.of(fetched, size, r -> new Cursor(r.createdAt(), r.id()), r -> r);
+    }
+
+    // 영수증 원본 OCR 결과 (목록에서는 내려주지 않음)
+    public ReceiptOcrRawRes getOcrRaw(long receiptId) {
+        Receipt r = receiptRepository.findById(receiptId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Receipt not found"));
+        return new ReceiptOcrRawRes(r.getId(), r.getUserId(), r.getOcrRaw(), r.getImagePath());
     }
 
     // OCR 처리(멀티파트)
     public ReceiptResponse process(MultipartFile file) {
-        // 1) 업로드 파일 정보 로깅
-        String filename = file.getOriginalFilename();
-        long fileSize = file.getSize();
-        String contentType = file.getContentType();
-        
-        log.info("[OCR] File received - filename: {}, size: {} bytes, contentType: {}", 
-                filename, fileSize, contentType);
-        
-        // 2) 파일 유효성 검사
-        if (file.isEmpty()) {
-            log.warn("[OCR] Empty file uploaded");
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty or unsupported image");
-        }
-        
-        if (contentType == null || !isValidImageType(contentType)) {
-            log.warn("[OCR] Unsupported content type: {}", contentType);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty or unsupported image");
-        }
+        // 1~2) 업로드 파일 정보 로깅 및 유효성 검사
+        validateUpload(file);
         
         // 3) OCR 비활성화 시 더미 응답 반환
         if (!ocrProperties.enabled() || ocrClient.isEmpty()) {
@@ -179,23 +170,42 @@ public class ReceiptService {
         }
         
         try {
-            // 4) OCR 호출 전 로깅
+            // 4) 같은 이미지를 다시 올린 경우 이전 OCR 결과 재사용 (내용 해시 기준)
+            String contentHash = ocrResultCache.isEnabled() ? ocrResultCache.hash(file) : null;
+            if (contentHash != null) {
+                Optional<OcrResult> cached = ocrResultCache.get(contentHash);
+                if (cached.isPresent()) {
+                    log.info("[OCR] Cache hit - sha256: {}", contentHash);
+                    return toResponse(cached.get());
+                }
+            }
+
+            // 5) 축소/흑백/JPEG 재인코딩 (ocr.preprocess.enabled일 때만, 캐시 키는 원본 기준)
+            MultipartFile upload = ocrImagePreprocessor.preprocess(file);
+
+            // OCR 호출 전 로깅
             String endpoint = ocrProperties.apiUrl();
             boolean hasSecret = ocrProperties.apiKey() != null && !ocrProperties.apiKey().isEmpty();
             String payloadFormat = "multipart";
-            long bytesLength = file.getSize();
+            long bytesLength = upload.getSize();
             
-            log.info("[OCR] Calling OCR API - endpoint: {}, hasSecret: {}, payloadFormat: {}, bytes: {}",
-                    endpoint, hasSecret, payloadFormat, bytesLength);
+            log.info("[OCR] Calling OCR API - endpoint: {}, hasSecret: {}, payloadFormat: {}, bytes: {} (original: {})",
+                    endpoint, hasSecret, payloadFormat, bytesLength, file.getSize());
             
-            // 5) OCR 실행 - Optional 처리
-            OcrResult ocrResult = ocrClient.get().request(file);
-            String ocrText = extractOcrText(ocrResult);
+            // OCR 실행 - Optional 처리
+            OcrResult ocrResult = ocrClient.get().request(upload);
+            if (contentHash != null && ocrResult != null && ocrResult.getImages() != null && !ocrResult.getImages().isEmpty()) {
+                ocrResultCache.put(contentHash, ocrResult); // 추출 실패 응답은 캐시하지 않음
+            }
             
             log.info("[OCR] OCR processing completed successfully");
             
-            // 임시 응답 (실제 가게 정보 파싱은 추후 구현)
-            return new ReceiptResponse("OCR_파싱됨", 0, ocrText, 1.0);
+            return toResponse(ocrResult);
+            
+        } catch (OcrUnavailableException e) {
+            // 서킷 OPEN/벌크헤드 포화 - 백엔드 호출 없이 즉시 실패
+            log.warn("[OCR] OCR call rejected: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "OCR service temporarily unavailable");
             
         } catch (org.springframework.web.client.HttpClientErrorException e) {
             // 6) 4xx 에러 처리
@@ -217,12 +227,24 @@ public class ReceiptService {
     }
 
 
-    private boolean isValidCategoryCode(String categoryCode) {
-        if (categoryCode == null || categoryCode.trim().isEmpty()) {
-            return false;
+    // 업로드 이미지 유효성 검사 (비동기 파싱 작업 접수 시에도 동기적으로 400을 돌려주기 위해 분리)
+    public void validateUpload(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        long fileSize = file.getSize();
+        String contentType = file.getContentType();
+        
+        log.info("[OCR] File received - filename: {}, size: {} bytes, contentType: {}", 
+                filename, fileSize, contentType);
+        
+        if (file.isEmpty()) {
+            log.warn("[OCR] Empty file uploaded");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty or unsupported image");
+        }
+        
+        if (contentType == null || !isValidImageType(contentType)) {
+            log.warn("[OCR] Unsupported content type: {}", contentType);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Empty or unsupported image");
         }
-        String code = categoryCode.trim().toUpperCase();
-        return code.equals("FRANCHISE") || code.equals("LOCAL") || code.equals("MARKET");
     }
 
     private StoreMatchResult safeResolveStore(String ocrRawText) {
@@ -234,16 +256,29 @@ public class ReceiptService {
         }
     }
 
-    private int safeCalculateExp(long amount, String categoryCode) {
+    /**
+     * OCR 결과 → 파싱 응답
+     * - 가게명은 필드 위치/글자 크기/신뢰도로 고른 상위 후보만 매칭 (매칭 실패 시 최상위 후보 줄, 신뢰도 0)
+     * - 금액 파싱은 아직 하지 않는다
+     */
+    private ReceiptResponse toResponse(OcrResult ocrResult) {
+        String ocrText = extractOcrText(ocrResult);
+        List<String> candidates = storeNameCandidateExtractor.extract(ocrResult);
+        StoreMatchResult match;
         try {
-            return expCalculator.calcExp(amount, categoryCode);
+            match = storeResolver.resolveCandidates(candidates);
         } catch (Exception e) {
-            log.warn("Experience calculation failed, using default value", e);
-            // 기본 경험치 계산 (amount / 100, 최소 1)
-            return Math.max(1, (int) (amount / 100));
+            log.warn("Store resolution failed for OCR candidates {}", candidates, e);
+            match = StoreMatchResult.noMatch();
+        }
+
+        if (match.isMatched()) {
+            return new ReceiptResponse(match.getStore().getName(), 0, ocrText, match.getConfidence());
         }
+        String storeName = candidates.isEmpty() ? "OCR_파싱됨" : candidates.get(0);
+        return new ReceiptResponse(storeName, 0, ocrText, match.getConfidence());
     }
-    
+
     private boolean isValidImageType(String contentType) {
         return contentType.startsWith("image/") && 
                (contentType.contains("jpeg") || contentType.contains("jpg") || 
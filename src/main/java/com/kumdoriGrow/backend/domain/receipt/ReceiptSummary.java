@@ -0,0 +1,19 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import java.time.Instant;
+
+/**
+ * 영수증 목록 화면용 프로젝션 - 표시 컬럼만 SELECT (ocr_raw JSON, image_path 제외)
+ * - 원본 OCR 결과는 영수증 단건 API(/api/receipts/{id}/ocr-raw)로 따로 조회
+ */
+public record ReceiptSummary(
+        Long id,
+        String storeName,
+        Long totalAmount,
+        String categoryCode,
+        Integer expAwarded,
+        String status,
+        Instant createdAt,
+        Long matchedStoreId,
+        Double storeNameConfidence
+) {}
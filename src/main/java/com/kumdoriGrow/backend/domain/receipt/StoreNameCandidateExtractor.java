@@ -0,0 +1,182 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrFieldModels;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * OCR 필드 배치로 가게명 후보 줄 고르기
+ * - 필드를 lineBreak(없으면 세로 겹침) 기준으로 줄로 묶고, 위쪽일수록/글자가 클수록/인식 신뢰도가 높을수록 높은 점수
+ * - 위치와 글자 높이는 이미지마다 0~1로 맞춘다 (좌표가 없는 응답은 줄 순서를 위치로 쓰고 높이는 같게 본다)
+ * - 상위 candidateLimit 줄만 StoreResolver로 넘겨 영수증당 매칭 횟수를 고정한다
+ */
+@Component
+public class StoreNameCandidateExtractor {
+
+    private static final double POSITION_WEIGHT = 0.45;
+    private static final double HEIGHT_WEIGHT = 0.35;
+    private static final double CONFIDENCE_WEIGHT = 0.20;
+
+    private final int limit;
+
+    @Autowired
+    public StoreNameCandidateExtractor(StoreMatchingProperties props) {
+        this.limit = props.candidateLimit();
+    }
+
+    // 기본 설정
+    public StoreNameCandidateExtractor() {
+        this(new StoreMatchingProperties());
+    }
+
+    /**
+     * 점수 높은 순 후보 줄 (같은 점수면 읽는 순서, 중복 제거)
+     */
+    public List<String> extract(OcrResult result) {
+        if (result == null || result.getImages() == null) return List.of();
+
+        List<Line> candidates = new ArrayList<>();
+        for (OcrFieldModels.OcrImage image : result.getImages()) {
+            if (image == null || image.getFields() == null) continue;
+            List<Line> lines = groupLines(image.getFields());
+            score(lines);
+            for (Line line : lines) {
+                if (isNameLike(line.text())) candidates.add(line);
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Line::score).reversed());
+        return candidates.stream()
+                .map(Line::text)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    // 읽는 순서대로 필드를 줄로 묶기
+    private static List<Line> groupLines(List<OcrFieldModels.OcrField> fields) {
+        List<Line> lines = new ArrayList<>();
+        Line current = null;
+        boolean lineBreak = false;
+        for (OcrFieldModels.OcrField field : fields) {
+            if (field == null) continue;
+            String text = field.getInferText() == null ? "" : field.getInferText().strip();
+            Box box = Box.of(field.getBoundingPoly());
+            if (!text.isEmpty()) {
+                if (current != null && (lineBreak || !current.overlaps(box))) {
+                    lines.add(current);
+                    current = null;
+                }
+                if (current == null) current = new Line();
+                current.add(text, box, field.getInferConfidence());
+                lineBreak = false;
+            }
+            lineBreak |= Boolean.TRUE.equals(field.getLineBreak());
+        }
+        if (current != null) lines.add(current);
+        return lines;
+    }
+
+    private static void score(List<Line> lines) {
+        double top = Double.MAX_VALUE;
+        double bottom = -Double.MAX_VALUE;
+        double maxHeight = 0;
+        for (Line line : lines) {
+            if (!line.hasBox) continue;
+            top = Math.min(top, line.top);
+            bottom = Math.max(bottom, line.bottom);
+            maxHeight = Math.max(maxHeight, line.height);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            double position;
+            double height;
+            if (line.hasBox && bottom > top) {
+                position = 1.0 - (line.top - top) / (bottom - top);
+                height = maxHeight > 0 ? line.height / maxHeight : 1.0;
+            } else {
+                position = 1.0 - (double) i / lines.size();
+                height = 1.0;
+            }
+            line.score = POSITION_WEIGHT * position + HEIGHT_WEIGHT * height + CONFIDENCE_WEIGHT * line.confidence();
+        }
+    }
+
+    // 두 글자 이상이고 글자(한글/영문 등)가 하나라도 있는 줄 - 금액/전화번호/구분선 제외
+    private static boolean isNameLike(String text) {
+        if (text.length() < 2) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetter(text.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    private record Box(double top, double bottom) {
+        private static Box of(OcrFieldModels.BoundingPoly poly) {
+            if (poly == null || poly.getVertices() == null) return null;
+            double top = Double.MAX_VALUE;
+            double bottom = -Double.MAX_VALUE;
+            for (OcrFieldModels.Vertex v : poly.getVertices()) {
+                if (v == null || v.getY() == null) continue;
+                top = Math.min(top, v.getY());
+                bottom = Math.max(bottom, v.getY());
+            }
+            return bottom >= top ? new Box(top, bottom) : null;
+        }
+
+        private double center() {
+            return (top + bottom) / 2;
+        }
+    }
+
+    private static final class Line {
+        private final StringBuilder text = new StringBuilder();
+        private boolean hasBox;
+        private double top;
+        private double bottom;
+        private double height;      // 줄 안에서 가장 큰 필드 높이 (글자 크기)
+        private double confidenceSum;
+        private int confidenceCount;
+        private double score;
+
+        private void add(String fieldText, Box box, Double confidence) {
+            if (!text.isEmpty()) text.append(' ');
+            text.append(fieldText);
+            if (box != null) {
+                top = hasBox ? Math.min(top, box.top()) : box.top();
+                bottom = hasBox ? Math.max(bottom, box.bottom()) : box.bottom();
+                height = Math.max(height, box.bottom() - box.top());
+                hasBox = true;
+            }
+            if (confidence != null) {
+                confidenceSum += confidence;
+                confidenceCount++;
+            }
+        }
+
+        // lineBreak가 없는 응답용 - 새 필드의 세로 중심이 현재 줄 안에 있으면 같은 줄
+        private boolean overlaps(Box box) {
+            if (box == null || !hasBox) return true;
+            return box.center() >= top && box.center() <= bottom;
+        }
+
+        private String text() {
+            return text.toString();
+        }
+
+        private double confidence() {
+            return confidenceCount == 0 ? 1.0 : confidenceSum / confidenceCount;
+        }
+
+        private double score() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.kumdoriGrow.backend.domain.receipt.parse;
+
+import com.kumdoriGrow.backend.api.receipt.dto.ReceiptResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 영수증 파싱 작업 한 건
+ * - 상태 전이: PENDING → RUNNING → DONE | FAILED
+ */
+@Getter
+public class ParseJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private final String id;
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.PENDING;
+    private volatile ReceiptResponse result;
+    private volatile Integer errorStatus; // 동기 API였다면 돌려줬을 HTTP 상태
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    // 완료(성공/실패) 시 정상 완료되는 신호 - 롱폴링 대기용
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<ParseJob> completion = new CompletableFuture<>();
+
+    // 상태가 확정된 직후, 대기자에게 알리기 전에 호출 (보관소 갱신용)
+    @Getter(AccessLevel.NONE)
+    private final Consumer<ParseJob> onFinished;
+
+    ParseJob(String id, Consumer<ParseJob> onFinished) {
+        this.id = id;
+        this.onFinished = onFinished;
+    }
+
+    CompletableFuture<ParseJob> completion() {
+        return completion;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void complete(ReceiptResponse result) {
+        this.result = result;
+        finish(Status.DONE);
+    }
+
+    void fail(int errorStatus, String error) {
+        this.errorStatus = errorStatus;
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        this.finishedAt = Instant.now();
+        this.status = status;
+        onFinished.accept(this);
+        completion.complete(this);
+    }
+}
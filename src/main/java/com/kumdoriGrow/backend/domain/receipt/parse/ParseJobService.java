@@ -0,0 +1,173 @@
+package com.kumdoriGrow.backend.domain.receipt.parse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.kumdoriGrow.backend.config.ParseJobProperties;
+import com.kumdoriGrow.backend.domain.receipt.ReceiptService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 영수증 파싱 (/api/receipts/parse/jobs)
+ * - 접수 즉시 작업 id를 돌려주고, OCR은 가상 스레드에서 수행한다 (동시 OCR 호출 수는 maxConcurrency로 제한)
+ * - 대기+실행 중인 작업이 maxPending을 넘으면 접수 단계에서 429로 거절한다 (어드미션 제어)
+ * - 결과는 작업이 끝난 시점부터 resultTtl 동안 메모리에 보관 (단일 인스턴스 기준)
+ *   대기/실행 중인 작업은 만료되지 않는다 - 개수는 maxPending으로 이미 제한됨
+ */
+@Slf4j
+@Service
+public class ParseJobService {
+
+    private final ReceiptService receiptService;
+    private final ParseJobProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore admission;
+    private final Semaphore running;
+    private final Cache<String, ParseJob> jobs;
+
+    public ParseJobService(ReceiptService receiptService, ParseJobProperties properties) {
+        this(receiptService, properties, Ticker.systemTicker());
+    }
+
+    // 테스트용 - 만료 시계 주입
+    ParseJobService(ReceiptService receiptService, ParseJobProperties properties, Ticker ticker) {
+        this.receiptService = receiptService;
+        this.properties = properties;
+        this.admission = new Semaphore(properties.maxPending());
+        this.running = new Semaphore(properties.maxConcurrency());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry(properties.resultTtl()))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 파싱 작업 접수 - 유효성 검사는 동기로 하고 (400), OCR은 백그라운드에서
+     */
+    public ParseJob submit(MultipartFile file) {
+        receiptService.validateUpload(file);
+
+        if (!admission.tryAcquire()) {
+            log.warn("[OCR] Parse job rejected: {} jobs already pending", properties.maxPending());
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many receipts being processed, retry later");
+        }
+
+        ParseJob job;
+        try {
+            SpooledMultipartFile upload = SpooledMultipartFile.spool(file);
+            // 완료되면 다시 넣어 그 시점부터 resultTtl을 센다
+            job = new ParseJob(UUID.randomUUID().toString(), finished -> jobs.put(finished.getId(), finished));
+            jobs.put(job.getId(), job);
+            executor.execute(() -> run(job, upload));
+        } catch (IOException e) {
+            // 임시 파일 생성/이동 실패는 서버 쪽 디스크 문제 (업로드 형식 검사는 validateUpload에서 끝남)
+            admission.release();
+            log.error("[OCR] Failed to spool upload for parse job", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not store uploaded image");
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+
+        log.info("[OCR] Parse job accepted: {}", job.getId());
+        return job;
+    }
+
+    public Optional<ParseJob> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    /**
+     * 작업 완료 또는 wait 경과 중 먼저 오는 시점에 현재 상태로 완료되는 future (스레드를 점유하지 않는 롱폴링용)
+     */
+    public CompletableFuture<ParseJob> await(ParseJob job, Duration wait) {
+        Duration capped = wait.compareTo(properties.maxWait()) > 0 ? properties.maxWait() : wait;
+        if (job.isFinished() || capped.isZero() || capped.isNegative()) {
+            return CompletableFuture.completedFuture(job);
+        }
+        // 공유 completion 자체가 타임아웃으로 완료되지 않도록 파생 future에 건다
+        return job.completion()
+                .thenApply(done -> done)
+                .completeOnTimeout(job, capped.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void run(ParseJob job, SpooledMultipartFile upload) {
+        try {
+            running.acquire();
+            try {
+                job.markRunning();
+                job.complete(receiptService.process(upload));
+            } finally {
+                running.release();
+            }
+        } catch (ResponseStatusException e) {
+            job.fail(e.getStatusCode().value(), e.getReason());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), "Parse job interrupted");
+        } catch (Exception e) {
+            log.error("[OCR] Parse job {} failed", job.getId(), e);
+            job.fail(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Could not process image");
+        } finally {
+            closeQuietly(upload);
+            admission.release();
+        }
+    }
+
+    private static void closeQuietly(SpooledMultipartFile upload) {
+        try {
+            upload.close();
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to delete spooled upload", e);
+        }
+    }
+
+    /**
+     * 끝나지 않은 작업은 만료시키지 않고, 끝난 작업은 완료 때 다시 넣은(put) 시점부터 ttl
+     */
+    private static final class FinishedJobExpiry implements Expiry<String, ParseJob> {
+
+        private final long ttlNanos;
+
+        private FinishedJobExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String id, ParseJob job, long currentTime) {
+            return job.isFinished() ? ttlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, ParseJob job, long currentTime, long currentDuration) {
+            return job.isFinished() ? ttlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterRead(String id, ParseJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
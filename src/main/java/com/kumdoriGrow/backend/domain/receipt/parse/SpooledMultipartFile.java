@@ -0,0 +1,91 @@
+package com.kumdoriGrow.backend.domain.receipt.parse;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 요청이 끝난 뒤에도 쓸 수 있도록 업로드 내용을 임시 파일로 옮겨 둔 MultipartFile
+ * - 컨테이너의 임시 파일은 요청 종료 시 지워지므로 비동기 작업에는 이 사본을 넘긴다
+ * - 대기 중인 작업마다 이미지 전체를 힙에 들고 있지 않도록 디스크에 둔다 (Tomcat 업로드는 파일 이동으로 처리되어 복사도 없음)
+ * - 작업이 끝나면 close()로 임시 파일을 지운다
+ */
+final class SpooledMultipartFile implements MultipartFile, Closeable {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final Path content;
+    private final long size;
+
+    private SpooledMultipartFile(String name, String originalFilename, String contentType, Path content, long size) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.content = content;
+        this.size = size;
+    }
+
+    static SpooledMultipartFile spool(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile("receipt-parse-", ".upload");
+        try {
+            file.transferTo(temp.toFile());
+            return new SpooledMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(),
+                    temp, Files.size(temp));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(content);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(content);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(content, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(content);
+    }
+}
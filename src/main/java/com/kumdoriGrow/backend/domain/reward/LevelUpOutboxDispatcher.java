@@ -0,0 +1,210 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import com.kumdoriGrow.backend.config.RewardOutboxProperties;
+import com.kumdoriGrow.backend.domain.receipt.LevelUpEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레벨업 보상 outbox 처리기
+ * - 주기 폴링 + 영수증 트랜잭션 커밋 직후 깨우기로 PENDING 이벤트를 가져와 가상 스레드에서 처리한다 (동시 처리 수는 세마포어로 제한)
+ * - 이벤트마다 박스 개봉(RewardService가 지급 INSERT를 자체 트랜잭션으로 커밋) 후, 완료 표시를 별도의 짧은 트랜잭션으로 커밋한다
+ *   두 트랜잭션을 겹치지 않게 해 이벤트 하나가 커넥션을 하나만 잡는다 (max-concurrency만큼만 풀을 쓴다)
+ * - 실패하면 지수 백오프로 재시도하고, 최대 횟수를 넘으면 FAILED
+ *   (완료 표시만 실패해 재시도되면 이미 지급된 레벨이므로 중복 방지에 걸려 건너뛴다)
+ * - 최소 한 번(at-least-once) 처리이므로 중복 실행은 RewardService의 (user_id, level) 중복 방지에 맡긴다
+ *   (이미 지급된 레벨은 빈 결과로 돌아오고 이벤트는 완료 처리된다)
+ */
+@Slf4j
+@Component
+public class LevelUpOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final LevelUpOutboxRepository outboxRepository;
+    private final RewardService rewardService;
+    private final RewardOutboxProperties properties;
+    private final TransactionTemplate tx;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+
+    // 메트릭: 대기열 깊이 / 가장 오래된 대기 이벤트 나이 / 생성→처리 지연
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+    private final Timer lagTimer;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public LevelUpOutboxDispatcher(LevelUpOutboxRepository outboxRepository,
+                                   RewardService rewardService,
+                                   RewardOutboxProperties properties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.rewardService = rewardService;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrency());
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("kumdori.reward.outbox.pending", pendingCount, AtomicLong::get)
+                .description("PENDING level-up outbox events")
+                .register(meterRegistry);
+        Gauge.builder("kumdori.reward.outbox.oldest.age", oldestPendingAgeMillis, v -> v.get() / 1000.0)
+                .description("Age of the oldest PENDING level-up outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("kumdori.reward.outbox.lag")
+                .description("Time from level-up to reward processed")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("kumdori.reward.outbox.failures").tag("outcome", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("kumdori.reward.outbox.failures").tag("outcome", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kumdori.reward.outbox.poll-interval:5s}")
+    public void poll() {
+        dispatchDue();
+    }
+
+    /**
+     * 영수증 트랜잭션 커밋 직후 바로 처리 시작 (다음 폴링까지 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLevelUpCommitted(LevelUpEvent event) {
+        executor.execute(this::dispatchDue);
+    }
+
+    /**
+     * 처리 시점이 된 PENDING 이벤트를 가져와 실행기에 넘긴다 - 동시에 하나의 스레드만 조회하고, 그동안 들어온 요청은 한 번 더 돈다
+     */
+    public void dispatchDue() {
+        rerun.set(true);
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (rerun.getAndSet(false)) {
+                List<LevelUpOutboxEvent> due = outboxRepository.findDue(
+                        LevelUpOutboxEvent.Status.PENDING, Instant.now(), Limit.of(properties.batchSize()));
+                int submitted = 0;
+                for (LevelUpOutboxEvent event : due) {
+                    if (!inFlight.add(event.getId())) {
+                        continue;
+                    }
+                    permits.acquire(); // 동시 처리 상한 - 가득 차면 조회 스레드가 기다린다
+                    submitted++;
+                    executor.execute(() -> {
+                        try {
+                            process(event);
+                        } finally {
+                            inFlight.remove(event.getId());
+                            permits.release();
+                        }
+                    });
+                }
+                if (submitted > 0 && due.size() == properties.batchSize()) {
+                    rerun.set(true); // 밀린 이벤트가 더 있을 수 있음
+                }
+            }
+            refreshGauges();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[Outbox] Failed to poll level-up outbox", e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    private void process(LevelUpOutboxEvent event) {
+        try {
+            // 트랜잭션 밖에서 호출 - 지급 트랜잭션 안에 다른 트랜잭션을 겹쳐 열지 않는다
+            rewardService.openBoxIfEligible(event.getUserId(), event.getNewLevel(), null)
+                    .ifPresent(box -> log.info("Level-up reward processed: user={}, level={}, points={}",
+                            event.getUserId(), event.getNewLevel(), box.points()));
+            tx.executeWithoutResult(status -> outboxRepository.markDone(event.getId(), Instant.now()));
+            lagTimer.record(Duration.between(event.getCreatedAt(), Instant.now()));
+        } catch (Exception e) {
+            recordFailure(event, e);
+        }
+    }
+
+    private void recordFailure(LevelUpOutboxEvent event, Exception cause) {
+        int attempt = event.getAttempts() + 1;
+        boolean exhausted = attempt >= properties.maxAttempts();
+        LevelUpOutboxEvent.Status status = exhausted ? LevelUpOutboxEvent.Status.FAILED : LevelUpOutboxEvent.Status.PENDING;
+        Instant nextAttemptAt = Instant.now().plus(backoff(attempt));
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+
+        if (exhausted) {
+            failedCounter.increment();
+            log.error("Level-up reward failed permanently: user={}, level={}, attempts={}",
+                    event.getUserId(), event.getNewLevel(), attempt, cause);
+        } else {
+            retryCounter.increment();
+            log.warn("Level-up reward failed, retrying at {}: user={}, level={}, attempt={}",
+                    nextAttemptAt, event.getUserId(), event.getNewLevel(), attempt, cause);
+        }
+
+        try {
+            tx.executeWithoutResult(s -> outboxRepository.markFailedAttempt(event.getId(), status, nextAttemptAt, error));
+        } catch (Exception e) {
+            // 기록 실패 시 PENDING 그대로 남으므로 다음 폴링에서 다시 처리된다
+            log.error("[Outbox] Failed to record attempt for event {}", event.getId(), e);
+        }
+    }
+
+    // initialBackoff * 2^(attempt-1), maxBackoff 상한
+    private Duration backoff(int attempt) {
+        Duration delay = properties.initialBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+
+    private void refreshGauges() {
+        pendingCount.set(outboxRepository.countByStatus(LevelUpOutboxEvent.Status.PENDING));
+        oldestPendingAgeMillis.set(outboxRepository.findOldestCreatedAt(LevelUpOutboxEvent.Status.PENDING)
+                .map(createdAt -> Math.max(0L, Duration.between(createdAt, Instant.now()).toMillis()))
+                .orElse(0L));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // 처리 중이던 이벤트는 PENDING으로 남아 재기동 후 다시 처리된다
+            executor.shutdownNow();
+        }
+    }
+}
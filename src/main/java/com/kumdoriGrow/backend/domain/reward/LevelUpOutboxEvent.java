@@ -0,0 +1,74 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import com.kumdoriGrow.backend.domain.receipt.LevelUpEvent;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 레벨업 보상 outbox
+ * - 영수증 등록 트랜잭션에서 함께 INSERT 되고, LevelUpOutboxDispatcher가 커밋 이후 별도 트랜잭션으로 처리한다
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "level_up_outbox", indexes = {
+        @Index(name = "idx_level_up_outbox_due", columnList = "status,next_attempt_at")
+})
+public class LevelUpOutboxEvent {
+
+    public enum Status {
+        PENDING,
+        DONE,
+        FAILED  // 최대 재시도 초과 - 운영자 확인 필요
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "level_up_outbox_seq")
+    @SequenceGenerator(name = "level_up_outbox_seq", sequenceName = "level_up_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "old_level", nullable = false)
+    private Integer oldLevel;
+
+    @Column(name = "new_level", nullable = false)
+    private Integer newLevel;
+
+    @Column(name = "receipt_id")
+    private Long receiptId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    public static LevelUpOutboxEvent pending(LevelUpEvent event) {
+        LevelUpOutboxEvent outbox = new LevelUpOutboxEvent();
+        outbox.userId = event.userId();
+        outbox.oldLevel = event.oldLevel();
+        outbox.newLevel = event.newLevel();
+        outbox.receiptId = event.receiptId();
+        outbox.createdAt = Instant.now();
+        outbox.nextAttemptAt = outbox.createdAt;
+        return outbox;
+    }
+}
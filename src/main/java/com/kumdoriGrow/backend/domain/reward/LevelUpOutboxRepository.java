@@ -0,0 +1,36 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface LevelUpOutboxRepository extends JpaRepository<LevelUpOutboxEvent, Long> {
+
+    String STATUS = "com.kumdoriGrow.backend.domain.reward.LevelUpOutboxEvent.Status.";
+
+    // idx_level_up_outbox_due 범위 스캔
+    @Query("select e from LevelUpOutboxEvent e where e.status = :status and e.nextAttemptAt <= :now order by e.nextAttemptAt, e.id")
+    List<LevelUpOutboxEvent> findDue(@Param("status") LevelUpOutboxEvent.Status status, @Param("now") Instant now, Limit limit);
+
+    long countByStatus(LevelUpOutboxEvent.Status status);
+
+    @Query("select min(e.createdAt) from LevelUpOutboxEvent e where e.status = :status")
+    Optional<Instant> findOldestCreatedAt(@Param("status") LevelUpOutboxEvent.Status status);
+
+    @Modifying
+    @Query("update LevelUpOutboxEvent e set e.status = " + STATUS + "DONE, e.attempts = e.attempts + 1, " +
+            "e.processedAt = :now, e.lastError = null where e.id = :id and e.status = " + STATUS + "PENDING")
+    int markDone(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update LevelUpOutboxEvent e set e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.lastError = :error where e.id = :id and e.status = " + STATUS + "PENDING")
+    int markFailedAttempt(@Param("id") Long id, @Param("status") LevelUpOutboxEvent.Status status,
+                          @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+}
@@ -0,0 +1,52 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 포인트 박스 지급 기록
+ * - (user_id, level) 유니크 제약으로 레벨당 한 번만 지급된다 (수동 개봉은 level = null)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "reward_grants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_grants_user_level", columnNames = {"user_id", "level"}),
+        indexes = @Index(name = "idx_reward_grants_user_time", columnList = "user_id,granted_at"))
+public class RewardGrant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reward_grants_seq")
+    @SequenceGenerator(name = "reward_grants_seq", sequenceName = "reward_grants_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "level")
+    private Integer level;
+
+    @Column(name = "points", nullable = false)
+    private Integer points;
+
+    @Column(name = "roll", nullable = false)
+    private Double roll;
+
+    // 확률표/정규화 결과 JSON 스냅샷
+    @Column(name = "snapshot", columnDefinition = "json")
+    private String snapshot;
+
+    @Column(name = "granted_at", nullable = false, updatable = false)
+    private Instant grantedAt = Instant.now();
+
+    public RewardGrant(Long userId, Integer level, int points, double roll, String snapshot) {
+        this.userId = userId;
+        this.level = level;
+        this.points = points;
+        this.roll = roll;
+        this.snapshot = snapshot;
+    }
+}
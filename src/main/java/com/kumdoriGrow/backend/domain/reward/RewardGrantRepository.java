@@ -0,0 +1,36 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RewardGrantRepository extends JpaRepository<RewardGrant, Long> {
+
+    // uk_reward_grants_user_level 인덱스 조회
+    boolean existsByUserIdAndLevel(Long userId, Integer level);
+
+    @Query("select coalesce(sum(g.points), 0) from RewardGrant g where g.userId = :userId")
+    long sumPointsByUserId(@Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    Page<RewardGrant> findByUserIdOrderByGrantedAtDesc(Long userId, Pageable pageable);
+
+    // 키셋 페이지네이션 (idx_reward_grants_user_time 범위 스캔, OFFSET/count 없음)
+    List<RewardGrant> findByUserIdOrderByGrantedAtDescIdDesc(Long userId, Limit limit);
+
+    @Query("""
+            select g from RewardGrant g
+            where g.userId = :userId
+              and (g.grantedAt < :grantedAt or (g.grantedAt = :grantedAt and g.id < :id))
+            order by g.grantedAt desc, g.id desc
+            """)
+    List<RewardGrant> findPageAfter(@Param("userId") Long userId, @Param("grantedAt") Instant grantedAt,
+                                    @Param("id") Long id, Limit limit);
+}
@@ -1,34 +1,33 @@
 package com.kumdoriGrow.backend.domain.reward;
 
-import com.kumdoriGrow.backend.domain.receipt.Receipt;
-import com.kumdoriGrow.backend.domain.receipt.ReceiptRepository;
+import com.kumdoriGrow.backend.domain.xp.UserExperienceService;
+import com.kumdoriGrow.backend.support.Cursor;
+import com.kumdoriGrow.backend.support.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RewardQueryService {
     
-    private final ReceiptRepository receiptRepository;
+    private final RewardGrantRepository rewardGrantRepository;
+    private final UserExperienceService userExperienceService;
     
     /**
      * 사용자 포인트 요약 조회
      */
     public UserPointSummary getUserPointSummary(Long userId) {
-        // 일반 영수증에서 얻은 총 경험치
-        Long totalExp = receiptRepository.sumExpByUser(userId);
-        if (totalExp == null) totalExp = 0L;
-        
-        // 보상으로 받은 총 포인트 (status='REWARD'인 receipts의 total_amount 합계)
-        Long totalRewardPoints = receiptRepository.findByUserIdAndStatus(userId, "REWARD")
-                .stream()
-                .mapToLong(Receipt::getTotalAmount)
-                .sum();
+        // 총 경험치 (user_experience 스냅샷 + 원장 증분)
+        long totalExp = userExperienceService.getTotalExp(userId);
         
-        // 보상 받은 횟수
-        long rewardCount = receiptRepository.countByUserIdAndStatus(userId, "REWARD");
+        // 보상으로 받은 총 포인트 / 횟수 (reward_grants)
+        long totalRewardPoints = rewardGrantRepository.sumPointsByUserId(userId);
+        long rewardCount = rewardGrantRepository.countByUserId(userId);
         
         return new UserPointSummary(totalExp, totalRewardPoints, rewardCount);
     }
@@ -37,18 +36,28 @@ public class RewardQueryService {
      * 보상 히스토리 조회 (페이징)
      */
     public Page<RewardHistory> getRewardHistory(Long userId, int page, int size) {
-        Page<Receipt> rewardReceipts = receiptRepository.findByUserIdAndStatusOrderByRecognizedAtDesc(
-                userId, "REWARD", PageRequest.of(page, size));
-        
-        return rewardReceipts.map(this::toRewardHistory);
+        return rewardGrantRepository.findByUserIdOrderByGrantedAtDesc(userId, PageRequest.of(page, size))
+                .map(this::toRewardHistory);
+    }
+    
+    /**
+     * 보상 히스토리 조회 (커서 기반 - granted_at, id 내림차순)
+     */
+    public CursorPage<RewardHistory> getRewardHistoryAfter(Long userId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<RewardGrant> fetched = after == null
+                ? rewardGrantRepository.findByUserIdOrderByGrantedAtDescIdDesc(userId, limit)
+                : rewardGrantRepository.findPageAfter(userId, after.at(), after.id(), limit);
+        return CursorPage.of(fetched, size, g -> new Cursor(g.getGrantedAt(), g.getId()), this::toRewardHistory);
     }
     
-    private RewardHistory toRewardHistory(Receipt receipt) {
+    private RewardHistory toRewardHistory(RewardGrant grant) {
         return new RewardHistory(
-                receipt.getId(),
-                receipt.getTotalAmount().intValue(), // 포인트
-                receipt.getRecognizedAt(),
-                receipt.getOcrRaw() // JSON 스냅샷 (level, roll 등 포함)
+                grant.getId(),
+                grant.getPoints(),
+                grant.getGrantedAt(),
+                grant.getSnapshot() // JSON 스냅샷 (level, roll 등 포함)
         );
     }
     
@@ -1,23 +1,25 @@
 package com.kumdoriGrow.backend.domain.reward;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kumdoriGrow.backend.domain.receipt.Receipt;
-import com.kumdoriGrow.backend.domain.receipt.ReceiptRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
-import java.time.Instant;
 import java.util.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RewardService {
     
-    private final ReceiptRepository receiptRepository;
+    private final RewardGrantRepository rewardGrantRepository;
+    
+    // 지급 INSERT 전용 트랜잭션 - 중복 키로 실패해도 호출한 쪽 트랜잭션은 rollback-only가 되지 않는다
+    // (이 클래스의 공개 메서드는 트랜잭션을 열지 않으므로, 트랜잭션 밖에서 부르면 커넥션은 INSERT 동안 하나만 쓴다)
+    private final TransactionTemplate grantTx;
     
     // ObjectMapper는 직접 생성해서 사용 (의존성 주입 문제 방지)
     private static final ObjectMapper objectMapper = new ObjectMapper();
@@ -33,33 +35,42 @@ public class RewardService {
         new RewardWeight(50, 0.40)      // 40%
     );
     
+    public RewardService(RewardGrantRepository rewardGrantRepository, PlatformTransactionManager transactionManager) {
+        this.rewardGrantRepository = rewardGrantRepository;
+        this.grantTx = new TransactionTemplate(transactionManager);
+        this.grantTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
     /**
      * 레벨업 시 포인트 박스 개봉 체크 (5의 배수만)
+     * - 중복 조회와 지급 INSERT가 각각 짧은 트랜잭션으로 끝난다 - outbox 처리기는 자기 트랜잭션 밖에서 호출한다
      */
-    @Transactional
     public Optional<BoxOpenResult> openBoxIfEligible(Long userId, int newLevel, Long testSeed) {
         // 5의 배수가 아니면 개봉하지 않음
         if (newLevel % 5 != 0) {
             return Optional.empty();
         }
         
-        // 이미 해당 레벨로 보상을 받았는지 확인 (중복 방지)
-        boolean alreadyRewarded = receiptRepository.existsByUserIdAndStatusAndOcrRawContaining(
-            userId, "REWARD", "\"level\":" + newLevel
-        );
+        // 이미 해당 레벨로 보상을 받았는지 확인 (중복 방지, (user_id, level) 유니크 인덱스 조회)
+        boolean alreadyRewarded = rewardGrantRepository.existsByUserIdAndLevel(userId, newLevel);
         
         if (alreadyRewarded) {
             log.info("User {} already received reward for level {}", userId, newLevel);
             return Optional.empty();
         }
         
-        return Optional.of(openBoxNow(userId, newLevel, testSeed));
+        try {
+            return Optional.of(openBoxNow(userId, newLevel, testSeed));
+        } catch (DataIntegrityViolationException e) {
+            // 동시 개봉이 조회를 함께 통과한 경우 - 유니크 제약(uk_reward_grants_user_level)에 걸린 쪽은 이미 지급된 것으로 본다
+            log.info("User {} already received reward for level {} (concurrent grant)", userId, newLevel);
+            return Optional.empty();
+        }
     }
     
     /**
      * 강제로 포인트 박스 개봉 (테스트/운영점검용)
      */
-    @Transactional
     public BoxOpenResult openBoxNow(Long userId, Long testSeed) {
         return openBoxNow(userId, null, testSeed);
     }
@@ -75,9 +86,10 @@ public class RewardService {
         // 구간 선택
         int selectedPoints = selectReward(normalized, roll);
         
-        // receipts 테이블에 보상 이벤트 기록
-        Receipt rewardReceipt = createRewardReceipt(userId, selectedPoints, level, roll, normalized);
-        receiptRepository.save(rewardReceipt);
+        // reward_grants에 지급 기록 - 동시 개봉으로 조회를 통과해도 유니크 제약이 두 번째 INSERT를 막는다
+        // 별도 트랜잭션에서 INSERT 하므로 중복 키 실패는 이 INSERT만 롤백한다
+        RewardGrant grant = new RewardGrant(userId, level, selectedPoints, roll, createSnapshot(level, roll, normalized));
+        grantTx.executeWithoutResult(status -> rewardGrantRepository.saveAndFlush(grant));
         
         // 로깅
         if (level != null) {
@@ -119,18 +131,7 @@ public class RewardService {
         return normalized.get(normalized.size() - 1).points();
     }
     
-    private Receipt createRewardReceipt(Long userId, int points, Integer level, double roll, 
-                                      List<NormalizedWeight> normalized) {
-        Receipt receipt = new Receipt();
-        receipt.setUserId(userId);
-        receipt.setStoreName("POINT_BOX");
-        receipt.setTotalAmount((long) points);
-        receipt.setCategoryCode("REWARD");
-        receipt.setExpAwarded(0);
-        receipt.setStatus("REWARD");
-        receipt.setRecognizedAt(Instant.now());
-        
-        // OCR raw에 JSON 스냅샷 저장
+    private String createSnapshot(Integer level, double roll, List<NormalizedWeight> normalized) {
         try {
             Map<String, Object> snapshot = new HashMap<>();
             snapshot.put("type", "POINT_REWARD");
@@ -142,13 +143,11 @@ public class RewardService {
             snapshot.put("normalized", normalized);
             snapshot.put("version", "v1");
             
-            receipt.setOcrRaw(objectMapper.writeValueAsString(snapshot));
+            return objectMapper.writeValueAsString(snapshot);
         } catch (Exception e) {
             log.warn("Failed to serialize reward snapshot", e);
-            receipt.setOcrRaw("{}");
+            return "{}";
         }
-        
-        return receipt;
     }
     
     public List<RewardWeight> getRewardProbabilities() {
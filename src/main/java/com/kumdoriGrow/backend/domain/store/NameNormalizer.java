@@ -2,40 +2,30 @@ package com.kumdoriGrow.backend.domain.store;
 
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
+import java.util.Locale;
 
+/**
+ * 가게명 정규화 (소문자, 회사 접미사 제거, 한글/영문/숫자 외 문자는 '_' 하나로, 앞뒤 '_' 제거)
+ * - 정규식 없이 한 번의 순회로 글자를 분류해 버퍼에 바로 쓴다 (기존 replaceAll 5단계와 결과 동일)
+ */
 @Component
 public class NameNormalizer {
-    
-    private static final Pattern COMPANY_SUFFIX_PATTERN = Pattern.compile("\\(주\\)|㈜|\\bCorp\\b|\\bInc\\b|\\bLtd\\b", Pattern.CASE_INSENSITIVE);
-    private static final Pattern SPECIAL_CHARS_PATTERN = Pattern.compile("[^가-힣a-zA-Z0-9]");
-    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
-    
+
+    private static final char SEPARATOR = '_';
+    private static final String[] WORD_SUFFIXES = {"corp", "inc", "ltd"}; // 앞뒤가 단어 경계(\b)일 때만 제거
+
     public String normalize(String storeName) {
-        if (storeName == null || storeName.trim().isEmpty()) {
+        if (storeName == null) {
             return "";
         }
-        
-        String normalized = storeName.trim();
-        
-        // 1. 소문자로 변환
-        normalized = normalized.toLowerCase();
-        
-        // 2. 회사 접미사 제거 (주), ㈜, Corp, Inc, Ltd 등
-        normalized = COMPANY_SUFFIX_PATTERN.matcher(normalized).replaceAll("");
-        
-        // 3. 특수문자 및 공백을 언더스코어로 변환
-        normalized = SPECIAL_CHARS_PATTERN.matcher(normalized).replaceAll("_");
-        
-        // 4. 연속된 언더스코어를 하나로 합침
-        normalized = normalized.replaceAll("_{2,}", "_");
-        
-        // 5. 앞뒤 언더스코어 제거
-        normalized = normalized.replaceAll("^_+|_+$", "");
-        
-        return normalized;
+        String source = lowerCaseSource(storeName);
+        char[] buf = new char[source.length()];
+        int len = normalizeInto(source, buf, 0);
+        return sameChars(storeName, buf, len)
+                ? storeName // 이미 정규화된 이름은 새 문자열 없이 그대로 (카탈로그 정규화명 재정규화 등)
+                : new String(buf, 0, len);
     }
-    
+
     /**
      * OCR 텍스트에서 가게명으로 추정되는 부분들을 추출
      */
@@ -63,15 +53,142 @@ public class NameNormalizer {
     
     /**
      * 두 문자열의 포함 관계 확인 (정규화된 문자열 기준)
+     * - 두 정규화 결과를 버퍼 하나에 이어 쓰고 그 안에서 비교 (중간 문자열 생성 없음)
      */
     public boolean contains(String haystack, String needle) {
         if (haystack == null || needle == null) {
             return false;
         }
-        
-        String normalizedHaystack = normalize(haystack);
-        String normalizedNeedle = normalize(needle);
-        
-        return normalizedHaystack.contains(normalizedNeedle);
+
+        String h = lowerCaseSource(haystack);
+        String n = lowerCaseSource(needle);
+        char[] buf = new char[h.length() + n.length()];
+        int hLen = normalizeInto(h, buf, 0);
+        int nLen = normalizeInto(n, buf, hLen) - hLen;
+
+        for (int from = 0; from + nLen <= hLen; from++) {
+            int k = 0;
+            while (k < nLen && buf[from + k] == buf[hLen + k]) k++;
+            if (k == nLen) return true;
+        }
+        return false;
+    }
+
+    // ===== 한 번의 순회 정규화 =====
+
+    /**
+     * source를 정규화해 buf[offset..]에 쓰고 끝 위치를 반환
+     * - 회사 접미사 (주), ㈜, corp/inc/ltd(\b 경계)는 흔적 없이 삭제 (앞뒤 글자가 그대로 붙는다)
+     * - 한글 음절/영문/숫자는 소문자로 복사, 그 외 글자는 연속 구간을 '_' 하나로 (앞뒤 '_'는 쓰지 않음)
+     */
+    private static int normalizeInto(String source, char[] buf, int offset) {
+        int n = source.length();
+        int len = offset;
+        boolean pendingSeparator = false;
+        int i = 0;
+        while (i < n) {
+            char c = lower(source.charAt(i));
+
+            int suffixEnd = companySuffixEnd(source, i, c);
+            if (suffixEnd > 0) {
+                i = suffixEnd;
+                continue;
+            }
+
+            if (isKept(c)) {
+                if (pendingSeparator && len > offset) buf[len++] = SEPARATOR;
+                pendingSeparator = false;
+                buf[len++] = c;
+            } else {
+                pendingSeparator = true;
+            }
+            i++;
+        }
+        return len;
+    }
+
+    // i에서 시작하는 회사 접미사의 끝 위치, 없으면 -1
+    private static int companySuffixEnd(String source, int i, char c) {
+        if (c == '(') {
+            return source.startsWith("주)", i + 1) ? i + 3 : -1;
+        }
+        if (c == '㈜') {
+            return i + 1;
+        }
+        if (c != 'c' && c != 'i' && c != 'l') {
+            return -1;
+        }
+        if (i > 0 && isBoundaryWord(source, Character.codePointBefore(source, i), i - 1)) {
+            return -1;
+        }
+        for (String suffix : WORD_SUFFIXES) {
+            int end = i + suffix.length();
+            if (end <= source.length() && matchesLower(source, i, suffix)
+                    && (end == source.length() || !isBoundaryWord(source, Character.codePointAt(source, end), end))) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * java.util.regex \b 의 단어 글자 판정 (JDK 19+)
+     * - ASCII [a-zA-Z0-9_], 또는 앞쪽 기준 글자가 글자/숫자인 결합 문자(NON_SPACING_MARK, 예: 'İ' 소문자화로 생긴 U+0307)
+     */
+    private static boolean isBoundaryWord(String source, int ch, int from) {
+        if (ch < 128 || ch == '\u212A') {
+            return isAsciiWord(lower((char) ch));
+        }
+        if (Character.getType(ch) != Character.NON_SPACING_MARK) {
+            return false;
+        }
+        for (int x = from; x >= 0; x--) {
+            int base = Character.codePointAt(source, x);
+            if (Character.isLetterOrDigit(base)) return true;
+            if (Character.getType(base) != Character.NON_SPACING_MARK) return false;
+        }
+        return false;
+    }
+
+    private static boolean sameChars(String s, char[] buf, int len) {
+        if (s.length() != len) return false;
+        for (int k = 0; k < len; k++) {
+            if (s.charAt(k) != buf[k]) return false;
+        }
+        return true;
+    }
+
+    private static boolean matchesLower(String source, int from, String word) {
+        for (int k = 0; k < word.length(); k++) {
+            if (lower(source.charAt(from + k)) != word.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 글자 단위 소문자화가 String.toLowerCase()와 분류 결과가 같지 않은 경우만 미리 전체 소문자화
+     * - 'İ'(U+0130)는 "i + 결합 점" 두 글자가 되고, 터키어/아제르바이잔어 로캘은 'I'를 'ı'로 바꾼다
+     */
+    private static String lowerCaseSource(String s) {
+        String language = Locale.getDefault().getLanguage();
+        if (s.indexOf('\u0130') >= 0 || "tr".equals(language) || "az".equals(language)) {
+            return s.toLowerCase();
+        }
+        return s;
+    }
+
+    // ASCII 대문자와 켈빈 기호(U+212A → k)만 분류가 바뀐다, 나머지 비 ASCII 글자는 어차피 구분자
+    private static char lower(char c) {
+        if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+        if (c == '\u212A') return 'k';
+        return c;
+    }
+
+    private static boolean isKept(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣');
+    }
+
+    private static boolean isAsciiWord(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
     }
-}
\ No newline at end of file
+}
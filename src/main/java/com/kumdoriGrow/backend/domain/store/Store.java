@@ -17,13 +17,15 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(StoreCatalogChangeListener.class)
 @Table(name = "stores", uniqueConstraints = {
     @UniqueConstraint(name = "uk_stores_normalized", columnNames = "normalized_name")
 })
 public class Store {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stores_seq")
+    @SequenceGenerator(name = "stores_seq", sequenceName = "stores_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -14,13 +14,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(StoreCatalogChangeListener.class)
 @Table(name = "store_aliases", uniqueConstraints = {
     @UniqueConstraint(name = "uk_alias_normalized", columnNames = "normalized_alias")
 })
 public class StoreAlias {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_aliases_seq")
+    @SequenceGenerator(name = "store_aliases_seq", sequenceName = "store_aliases_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "store_id", nullable = false)
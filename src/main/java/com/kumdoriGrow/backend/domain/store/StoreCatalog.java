@@ -0,0 +1,97 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가게/별칭 사전의 상주 스냅샷 관리자
+ * - 기동 시 한 번 적재하고, stores/store_aliases 변경이 커밋되면 새 스냅샷을 만들어 원자적으로 교체한다
+ * - 조회(StoreResolver.resolve)는 현재 스냅샷만 읽으므로 JPA를 거치지 않는다
+ */
+@Slf4j
+@Component
+public class StoreCatalog {
+
+    private final StoreRepository storeRepository;
+    private final StoreAliasRepository storeAliasRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final EditDistanceKernel kernel;
+    private final boolean jamoMatching;
+
+    private volatile StoreIndex index = StoreIndex.empty();
+
+    // 변경 요청 버전 / 마지막으로 반영된 버전 - 한 트랜잭션에서 여러 건이 바뀌어도 재적재는 한 번만
+    private final AtomicLong requestedVersion = new AtomicLong();
+    private long loadedVersion = -1;
+
+    public StoreCatalog(StoreRepository storeRepository,
+                        StoreAliasRepository storeAliasRepository,
+                        PlatformTransactionManager transactionManager,
+                        StoreMatchingProperties matchingProperties) {
+        this.storeRepository = storeRepository;
+        this.storeAliasRepository = storeAliasRepository;
+        this.kernel = matchingProperties.kernel().create();
+        this.jamoMatching = matchingProperties.jamoMatching();
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 현재 스냅샷 (항상 non-null)
+     */
+    public StoreIndex index() {
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @EventListener
+    public void markDirty(StoreCatalogChangedEvent event) {
+        requestedVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(StoreCatalogChangedEvent event) {
+        refreshIfStale();
+    }
+
+    /**
+     * DB에서 전체 사전을 다시 읽어 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        long version = requestedVersion.get();
+        StoreIndex loaded = readOnlyTx.execute(status ->
+                StoreIndex.of(storeRepository.findAll(), storeAliasRepository.findAll(), kernel, jamoMatching));
+        index = loaded != null ? loaded : StoreIndex.empty();
+        loadedVersion = version;
+
+        log.info("[StoreCatalog] Snapshot loaded: stores={}, aliases={}", index.storeCount(), index.aliasCount());
+    }
+
+    private synchronized void refreshIfStale() {
+        if (loadedVersion >= requestedVersion.get()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지 (다음 변경 때 재시도)
+            log.error("[StoreCatalog] Failed to refresh snapshot, keeping previous one", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Store/StoreAlias 엔티티 변경 감지용 JPA 엔티티 리스너
+ * - Hibernate가 SpringBeanContainer를 통해 빈으로 생성한다
+ * - EntityManagerFactory 초기화 시점에 생성되므로 리포지토리 계열 빈에 의존하지 않는다 (순환 참조 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCatalogChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Store store) {
+            eventPublisher.publishEvent(new StoreCatalogChangedEvent(Store.class, store.getId()));
+        } else if (entity instanceof StoreAlias alias) {
+            eventPublisher.publishEvent(new StoreCatalogChangedEvent(StoreAlias.class, alias.getId()));
+        }
+    }
+}
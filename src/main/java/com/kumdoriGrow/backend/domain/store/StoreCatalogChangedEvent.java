@@ -0,0 +1,9 @@
+package com.kumdoriGrow.backend.domain.store;
+
+/**
+ * stores / store_aliases 변경 이벤트 - StoreCatalog 스냅샷 갱신 트리거용
+ */
+public record StoreCatalogChangedEvent(
+    Class<?> entityType,
+    Long entityId
+) {}
@@ -0,0 +1,185 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernel;
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernelType;
+import com.kumdoriGrow.backend.domain.store.fuzzy.FuzzyIndex;
+import com.kumdoriGrow.backend.domain.store.fuzzy.JamoFuzzyIndex;
+import com.kumdoriGrow.backend.domain.store.fuzzy.SubstringIndex;
+
+import java.util.*;
+
+/**
+ * 가게/별칭 사전의 불변 스냅샷
+ * - StoreCatalog가 통째로 교체하며, 생성 이후에는 절대 변경되지 않는다
+ * - 담고 있는 Store/StoreAlias는 detached 엔티티이므로 읽기 전용으로만 사용한다 (지연 로딩 연관관계 접근 금지)
+ */
+public final class StoreIndex {
+
+    private static final StoreIndex EMPTY =
+            new StoreIndex(List.of(), List.of(), EditDistanceKernelType.MYERS.create(), false);
+
+    private final List<Store> stores;
+    private final List<StoreAlias> aliases;
+    private final Map<Long, Store> storesById;
+    private final Map<String, Store> storesByNormalizedName;
+    private final Map<String, StoreAlias> aliasesByNormalizedAlias;
+    private final FuzzyIndex fuzzyIndex;
+    private final JamoFuzzyIndex jamoFuzzyIndex; // 자모 매칭을 끄면 null
+    private final SubstringIndex substringIndex;
+
+    private StoreIndex(List<Store> stores, List<StoreAlias> aliases, EditDistanceKernel kernel, boolean jamoMatching) {
+        this.stores = stores;
+        this.aliases = aliases;
+
+        Map<Long, Store> byId = new HashMap<>(stores.size() * 2);
+        Map<String, Store> byName = new HashMap<>(stores.size() * 2);
+        for (Store store : stores) {
+            byId.put(store.getId(), store);
+            byName.putIfAbsent(store.getNormalizedName(), store);
+        }
+
+        Map<String, StoreAlias> byAlias = new HashMap<>(aliases.size() * 2);
+        for (StoreAlias alias : aliases) {
+            byAlias.putIfAbsent(alias.getNormalizedAlias(), alias);
+        }
+
+        this.storesById = Collections.unmodifiableMap(byId);
+        this.storesByNormalizedName = Collections.unmodifiableMap(byName);
+        this.aliasesByNormalizedAlias = Collections.unmodifiableMap(byAlias);
+
+        // 퍼지/부분 인덱스 ordinal: [0, stores.size()) 는 가게명, 그 뒤는 별칭
+        List<String> terms = new ArrayList<>(stores.size() + aliases.size());
+        stores.forEach(store -> terms.add(store.getNormalizedName()));
+        aliases.forEach(alias -> terms.add(alias.getNormalizedAlias()));
+        this.fuzzyIndex = FuzzyIndex.build(terms, kernel);
+        this.jamoFuzzyIndex = jamoMatching ? JamoFuzzyIndex.build(terms) : null;
+        this.substringIndex = SubstringIndex.build(terms);
+    }
+
+    public static StoreIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * DB에서 읽어온 가게/별칭 목록으로 스냅샷 생성 (id 순으로 정렬해 결과 순서를 고정)
+     * - jamoMatching이면 자모 분해 인덱스도 함께 만든다 (분해는 여기서 한 번만)
+     */
+    public static StoreIndex of(Collection<Store> stores, Collection<StoreAlias> aliases,
+                                EditDistanceKernel kernel, boolean jamoMatching) {
+        List<Store> sortedStores = new ArrayList<>(stores);
+        sortedStores.sort(Comparator.comparing(Store::getId));
+
+        List<StoreAlias> sortedAliases = new ArrayList<>(aliases);
+        sortedAliases.sort(Comparator.comparing(StoreAlias::getId));
+
+        return new StoreIndex(List.copyOf(sortedStores), List.copyOf(sortedAliases), kernel, jamoMatching);
+    }
+
+    public Optional<Store> findStore(Long storeId) {
+        return Optional.ofNullable(storesById.get(storeId));
+    }
+
+    /**
+     * 별칭이 가리키는 가게 - 스냅샷의 id 맵에서 바로 찾으므로 별칭 건수만큼 조회가 늘어나지 않는다
+     */
+    public Optional<Store> storeOf(StoreAlias alias) {
+        return findStore(alias.getStoreId());
+    }
+
+    public Optional<Store> findByNormalizedName(String normalizedName) {
+        return Optional.ofNullable(storesByNormalizedName.get(normalizedName));
+    }
+
+    public Optional<StoreAlias> findByNormalizedAlias(String normalizedAlias) {
+        return Optional.ofNullable(aliasesByNormalizedAlias.get(normalizedAlias));
+    }
+
+    /**
+     * normalizedName에 주어진 문자열이 포함된 가게 목록 (id 순)
+     */
+    public List<Store> findStoresContaining(String normalized) {
+        List<Store> result = new ArrayList<>();
+        for (int ordinal : substringIndex.search(normalized)) {
+            if (ordinal >= stores.size()) {
+                break;
+            }
+            result.add(stores.get(ordinal));
+        }
+        return result;
+    }
+
+    /**
+     * normalizedAlias에 주어진 문자열이 포함된 별칭 목록 (id 순)
+     */
+    public List<StoreAlias> findAliasesContaining(String normalized) {
+        List<StoreAlias> result = new ArrayList<>();
+        for (int ordinal : substringIndex.search(normalized)) {
+            if (ordinal >= stores.size()) {
+                result.add(aliases.get(ordinal - stores.size()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 유사도가 threshold 이상인 가게명/별칭 (가게명 먼저, 각각 id 순)
+     * - 자모 인덱스가 있으면 음절/자모 유사도 중 큰 쪽을 쓴다
+     */
+    public List<FuzzyHit> findFuzzy(String normalized, double threshold) {
+        List<FuzzyIndex.Hit> hits = fuzzyIndex.search(normalized, threshold);
+        if (jamoFuzzyIndex != null) {
+            hits = mergeByOrdinal(hits, jamoFuzzyIndex.search(normalized, threshold));
+        }
+
+        List<FuzzyHit> result = new ArrayList<>();
+        for (FuzzyIndex.Hit hit : hits) {
+            int ordinal = hit.ordinal();
+            if (ordinal < stores.size()) {
+                result.add(new FuzzyHit(stores.get(ordinal), null, hit.similarity()));
+            } else {
+                result.add(new FuzzyHit(null, aliases.get(ordinal - stores.size()), hit.similarity()));
+            }
+        }
+        return result;
+    }
+
+    // ordinal 순으로 정렬된 두 결과를 합치고, 같은 ordinal은 유사도가 큰 쪽만 남긴다
+    private static List<FuzzyIndex.Hit> mergeByOrdinal(List<FuzzyIndex.Hit> a, List<FuzzyIndex.Hit> b) {
+        List<FuzzyIndex.Hit> merged = new ArrayList<>(a.size() + b.size());
+        int i = 0;
+        int j = 0;
+        while (i < a.size() || j < b.size()) {
+            if (j == b.size() || (i < a.size() && a.get(i).ordinal() < b.get(j).ordinal())) {
+                merged.add(a.get(i++));
+            } else if (i == a.size() || b.get(j).ordinal() < a.get(i).ordinal()) {
+                merged.add(b.get(j++));
+            } else {
+                merged.add(a.get(i).similarity() >= b.get(j).similarity() ? a.get(i) : b.get(j));
+                i++;
+                j++;
+            }
+        }
+        return merged;
+    }
+
+    public List<Store> stores() {
+        return stores;
+    }
+
+    public List<StoreAlias> aliases() {
+        return aliases;
+    }
+
+    public int storeCount() {
+        return stores.size();
+    }
+
+    public int aliasCount() {
+        return aliases.size();
+    }
+
+    /**
+     * 퍼지 검색 결과 - 가게명 매칭이면 store, 별칭 매칭이면 alias가 채워진다
+     */
+    public record FuzzyHit(Store store, StoreAlias alias, double similarity) {}
+}
@@ -1,23 +1,53 @@
 package com.kumdoriGrow.backend.domain.store;
 
-import lombok.RequiredArgsConstructor;
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+/**
+ * OCR 가게명 후보 → 가게 매칭
+ * - 1단계: 모든 후보의 정확 매칭(해시 조회)을 먼저 보고, 하나라도 걸리면 부분/퍼지 매칭 없이 바로 결정
+ * - 2단계: 후보별 부분/퍼지 매칭을 parallelism개 스레드로 나눠 돌린다 (호출 스레드도 함께 처리)
+ * - 결과는 후보 순서대로 합친 뒤 selectBestMatch로 고르므로 스레드 수와 무관하게 같다
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StoreResolver {
     
-    private final StoreRepository storeRepository;
-    private final StoreAliasRepository storeAliasRepository;
+    private final StoreCatalog storeCatalog;
     private final NameNormalizer nameNormalizer;
+    private final int parallelism;
+    private final ExecutorService executor; // parallelism이 1이면 null (호출 스레드에서 순서대로)
     
     private static final double FUZZY_THRESHOLD = 0.88;
     
+    public StoreResolver(StoreCatalog storeCatalog, NameNormalizer nameNormalizer, StoreMatchingProperties properties) {
+        this.storeCatalog = storeCatalog;
+        this.nameNormalizer = nameNormalizer;
+        this.parallelism = properties.parallelism();
+        // 퍼지 매칭은 CPU 작업이므로 가상 스레드 대신 크기가 고정된 플랫폼 스레드 풀
+        this.executor = parallelism > 1
+            ? Executors.newFixedThreadPool(parallelism - 1, Thread.ofPlatform().name("store-resolver-", 0).daemon(true).factory())
+            : null;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+    
     /**
      * OCR 텍스트를 분석하여 가장 적합한 가게를 찾는다
      */
@@ -30,46 +60,100 @@ public class StoreResolver {
         
         // 1. OCR 텍스트에서 가능한 가게명들 추출
         String[] possibleStoreNames = nameNormalizer.extractPossibleStoreNames(ocrRawText);
+        return resolveCandidates(Arrays.asList(possibleStoreNames));
+    }
+    
+    /**
+     * 이미 골라 둔 가게명 후보(예: OCR 레이아웃 점수 상위 줄)만으로 매칭
+     */
+    public StoreMatchResult resolveCandidates(List<String> possibleStoreNames) {
+        if (possibleStoreNames == null || possibleStoreNames.isEmpty()) {
+            return StoreMatchResult.noMatch();
+        }
         
-        List<StoreMatchResult> candidates = new ArrayList<>();
+        // 요청 하나는 같은 스냅샷으로 끝까지 처리 (도중에 사전이 교체되어도 일관성 유지)
+        StoreIndex index = storeCatalog.index();
         
-        // 2. 각 가능한 가게명에 대해 매칭 시도
+        // 2-1. 정확한 매칭 - 신뢰도가 가장 높은 매칭이므로 하나라도 있으면 나머지 작업은 하지 않는다
+        List<StoreMatchResult> exactMatches = new ArrayList<>();
         for (String possibleName : possibleStoreNames) {
-            // 2-1. 정확한 매칭 시도
-            StoreMatchResult exactMatch = findExactMatch(possibleName);
+            StoreMatchResult exactMatch = findExactMatch(index, possibleName);
             if (exactMatch.isMatched()) {
-                candidates.add(exactMatch);
-            }
-            
-            // 2-2. 부분 매칭 시도
-            List<StoreMatchResult> partialMatches = findPartialMatches(possibleName);
-            candidates.addAll(partialMatches);
-            
-            // 2-3. 퍼지 매칭 시도 (정확한 매칭이 없는 경우만)
-            if (exactMatch.getStore() == null) {
-                List<StoreMatchResult> fuzzyMatches = findFuzzyMatches(possibleName);
-                candidates.addAll(fuzzyMatches);
+                exactMatches.add(exactMatch);
             }
         }
+        if (!exactMatches.isEmpty()) {
+            return selectBestMatch(exactMatches);
+        }
+        
+        // 2-2, 2-3. 후보별 부분/퍼지 매칭 (후보 순서대로 합침)
+        List<StoreMatchResult> candidates = new ArrayList<>();
+        for (List<StoreMatchResult> matches : matchAll(index, possibleStoreNames)) {
+            candidates.addAll(matches);
+        }
         
         // 3. 최적의 후보 선택
         return selectBestMatch(candidates);
     }
     
-    private StoreMatchResult findExactMatch(String possibleName) {
+    // 후보 i의 부분/퍼지 매칭 결과를 i번째 칸에 - 작업은 공유 카운터로 나눠 가진다
+    private List<List<StoreMatchResult>> matchAll(StoreIndex index, List<String> possibleStoreNames) {
+        int size = possibleStoreNames.size();
+        List<List<StoreMatchResult>> results = new ArrayList<>(Collections.nCopies(size, List.of()));
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch remaining = new CountDownLatch(size);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                try {
+                    String possibleName = possibleStoreNames.get(i);
+                    List<StoreMatchResult> matches = new ArrayList<>(findPartialMatches(index, possibleName));
+                    matches.addAll(findFuzzyMatches(index, possibleName));
+                    results.set(i, matches);
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+        
+        int helpers = executor == null ? 0 : Math.min(parallelism, size) - 1;
+        List<Future<?>> futures = new ArrayList<>(helpers);
+        for (int k = 0; k < helpers; k++) {
+            futures.add(executor.submit(worker));
+        }
+        worker.run();
+        
+        // 이미 가져간 후보가 끝날 때까지만 기다리고, 풀이 바빠 아직 시작 못 한 보조 작업은 버린다
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while matching stores", e);
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Store matching failed", failure.get());
+        }
+        return results;
+    }
+    
+    private StoreMatchResult findExactMatch(StoreIndex index, String possibleName) {
         String normalized = nameNormalizer.normalize(possibleName);
         
         // 가게명 정확 매칭
-        Optional<Store> storeByName = storeRepository.findByNormalizedName(normalized);
+        Optional<Store> storeByName = index.findByNormalizedName(normalized);
         if (storeByName.isPresent()) {
             return StoreMatchResult.exactMatch(storeByName.get(), possibleName, 
                 StoreMatchResult.MatchType.EXACT_STORE_NAME);
         }
         
         // 별칭 정확 매칭
-        Optional<StoreAlias> storeByAlias = storeAliasRepository.findByNormalizedAlias(normalized);
+        Optional<StoreAlias> storeByAlias = index.findByNormalizedAlias(normalized);
         if (storeByAlias.isPresent()) {
-            Store store = storeRepository.findById(storeByAlias.get().getStoreId()).orElse(null);
+            Store store = index.storeOf(storeByAlias.get()).orElse(null);
             if (store != null) {
                 return StoreMatchResult.exactMatch(store, possibleName, 
                     StoreMatchResult.MatchType.EXACT_ALIAS);
@@ -79,21 +163,21 @@ public class StoreResolver {
         return StoreMatchResult.noMatch();
     }
     
-    private List<StoreMatchResult> findPartialMatches(String possibleName) {
+    private List<StoreMatchResult> findPartialMatches(StoreIndex index, String possibleName) {
         String normalized = nameNormalizer.normalize(possibleName);
         List<StoreMatchResult> matches = new ArrayList<>();
         
         // 가게명 부분 매칭
-        List<Store> storesByPartialName = storeRepository.findByNormalizedNameContaining(normalized);
+        List<Store> storesByPartialName = index.findStoresContaining(normalized);
         for (Store store : storesByPartialName) {
             matches.add(new StoreMatchResult(store, possibleName, 0.95, 
                 StoreMatchResult.MatchType.PARTIAL_STORE_NAME));
         }
         
         // 별칭 부분 매칭
-        List<StoreAlias> aliasesByPartialName = storeAliasRepository.findByNormalizedAliasContaining(normalized);
+        List<StoreAlias> aliasesByPartialName = index.findAliasesContaining(normalized);
         for (StoreAlias alias : aliasesByPartialName) {
-            Store store = storeRepository.findById(alias.getStoreId()).orElse(null);
+            Store store = index.storeOf(alias).orElse(null);
             if (store != null) {
                 matches.add(new StoreMatchResult(store, possibleName, 0.93, 
                     StoreMatchResult.MatchType.PARTIAL_ALIAS));
@@ -103,28 +187,17 @@ public class StoreResolver {
         return matches;
     }
     
-    private List<StoreMatchResult> findFuzzyMatches(String possibleName) {
+    private List<StoreMatchResult> findFuzzyMatches(StoreIndex index, String possibleName) {
         String normalized = nameNormalizer.normalize(possibleName);
         List<StoreMatchResult> matches = new ArrayList<>();
         
-        // 모든 가게와 퍼지 매칭
-        List<Store> allStores = storeRepository.findAll();
-        for (Store store : allStores) {
-            double similarity = calculateSimilarity(normalized, store.getNormalizedName());
-            if (similarity >= FUZZY_THRESHOLD) {
-                matches.add(StoreMatchResult.fuzzyMatch(store, possibleName, similarity));
-            }
-        }
-        
-        // 모든 별칭과 퍼지 매칭
-        List<StoreAlias> allAliases = storeAliasRepository.findAll();
-        for (StoreAlias alias : allAliases) {
-            double similarity = calculateSimilarity(normalized, alias.getNormalizedAlias());
-            if (similarity >= FUZZY_THRESHOLD) {
-                Store store = storeRepository.findById(alias.getStoreId()).orElse(null);
-                if (store != null) {
-                    matches.add(StoreMatchResult.fuzzyMatch(store, possibleName, similarity));
-                }
+        // 가게명/별칭 퍼지 매칭 (인덱스가 임계값 밖의 후보를 미리 가지치기)
+        for (StoreIndex.FuzzyHit hit : index.findFuzzy(normalized, FUZZY_THRESHOLD)) {
+            Store store = hit.store() != null
+                ? hit.store()
+                : index.storeOf(hit.alias()).orElse(null);
+            if (store != null) {
+                matches.add(StoreMatchResult.fuzzyMatch(store, possibleName, hit.similarity()));
             }
         }
         
@@ -162,41 +235,4 @@ public class StoreResolver {
         
         return bestMatch;
     }
-    
-    /**
-     * Jaro-Winkler 유사도 계산 (간단 구현)
-     */
-    private double calculateSimilarity(String s1, String s2) {
-        if (s1 == null || s2 == null) return 0.0;
-        if (s1.equals(s2)) return 1.0;
-        if (s1.isEmpty() || s2.isEmpty()) return 0.0;
-        
-        // 간단한 Levenshtein 거리 기반 유사도
-        int maxLength = Math.max(s1.length(), s2.length());
-        int distance = levenshteinDistance(s1, s2);
-        return 1.0 - (double) distance / maxLength;
-    }
-    
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
-        }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = Math.min(dp[i - 1][j], Math.min(dp[i][j - 1], dp[i - 1][j - 1])) + 1;
-                }
-            }
-        }
-        
-        return dp[s1.length()][s2.length()];
-    }
-}
\ No newline at end of file
+}
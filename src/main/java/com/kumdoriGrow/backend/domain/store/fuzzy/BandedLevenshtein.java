@@ -0,0 +1,85 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+/**
+ * 상한(maxDistance) 대역 제한 Levenshtein
+ * - 두 줄(rolling row)만 사용하며 버퍼는 스레드별로 재사용한다 (호출당 할당 없음)
+ * - |i - j| > maxDistance 인 칸은 계산하지 않고, 한 줄의 최솟값이 상한을 넘으면 즉시 중단한다
+ */
+public final class BandedLevenshtein implements EditDistanceKernel {
+
+    private static final ThreadLocal<Rows> ROWS = ThreadLocal.withInitial(Rows::new);
+
+    @Override
+    public int distance(CharSequence a, CharSequence b, int maxDistance) {
+        // 짧은 쪽을 행(a)으로
+        if (a.length() > b.length()) {
+            CharSequence t = a;
+            a = b;
+            b = t;
+        }
+        int n = a.length();
+        int m = b.length();
+        int k = Math.max(0, Math.min(maxDistance, m));
+
+        if (m - n > k) return k + 1;
+        if (n == 0) return m;
+
+        int inf = k + 1;
+        Rows rows = ROWS.get().ensureCapacity(m + 2);
+        int[] prev = rows.first;
+        int[] cur = rows.second;
+
+        int initTo = Math.min(m, k);
+        for (int j = 0; j <= initTo; j++) {
+            prev[j] = j;
+        }
+        if (initTo < m) {
+            prev[initTo + 1] = inf;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - k);
+            int to = Math.min(m, i + k);
+
+            cur[from - 1] = (from == 1 && i <= k) ? i : inf;
+            int rowMin = cur[from - 1];
+            char ca = a.charAt(i - 1);
+
+            for (int j = from; j <= to; j++) {
+                int v = prev[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                int del = prev[j] + 1;
+                int ins = cur[j - 1] + 1;
+                if (del < v) v = del;
+                if (ins < v) v = ins;
+                if (v > inf) v = inf;
+                cur[j] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (to < m) {
+                cur[to + 1] = inf;
+            }
+
+            if (rowMin > k) return inf;
+
+            int[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+
+        return Math.min(prev[m], inf);
+    }
+
+    private static final class Rows {
+        private int[] first = new int[64];
+        private int[] second = new int[64];
+
+        private Rows ensureCapacity(int size) {
+            if (first.length < size) {
+                int capacity = Math.max(size, first.length * 2);
+                first = new int[capacity];
+                second = new int[capacity];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Burkhard-Keller 트리 - 편집 거리(거리 공간) 기반 근사 검색 인덱스
+ * - 삼각 부등식으로 |d(q,node) - d(node,child)| > r 인 서브트리는 거리 계산 없이 가지치기한다
+ * - 단일 스레드에서 빌드한 뒤에는 읽기 전용 (동시 검색 안전)
+ */
+public final class BkTree {
+
+    private final EditDistanceKernel kernel;
+    private Node root;
+    private int size;
+
+    public BkTree(EditDistanceKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * 단어 추가 - 같은 단어가 이미 있으면 payload만 덧붙인다
+     */
+    public void add(String term, int payload) {
+        if (root == null) {
+            root = new Node(term, payload);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int d = kernel.distance(term, node.term);
+            if (d == 0) {
+                node.addPayload(payload);
+                return;
+            }
+            Node child = node.child(d);
+            if (child == null) {
+                node.addChild(d, new Node(term, payload));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * query로부터 거리 radius 이내의 모든 단어 방문
+     */
+    public void search(String query, int radius, Visitor visitor) {
+        if (root == null || radius < 0) {
+            return;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // d > maxChildKey + radius 이면 자식도 후보도 될 수 없으므로 그 이상은 계산하지 않는다
+            int d = kernel.distance(query, node.term, Math.max(radius, node.maxChildKey + radius));
+            if (d <= radius) {
+                visitor.visit(node.term, d, node.payloads, node.payloadCount);
+            }
+
+            int low = d - radius;
+            int high = d + radius;
+            for (int i = 0; i < node.childCount; i++) {
+                int key = node.childKeys[i];
+                if (key >= low && key <= high) {
+                    stack.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param payloads     단어에 연결된 payload 배열 (앞에서 payloadCount개만 유효, 수정 금지)
+         */
+        void visit(String term, int distance, int[] payloads, int payloadCount);
+    }
+
+    private static final class Node {
+        private final String term;
+        private int[] payloads;
+        private int payloadCount;
+        private int[] childKeys = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private int maxChildKey = -1;
+
+        private Node(String term, int payload) {
+            this.term = term;
+            this.payloads = new int[]{payload};
+            this.payloadCount = 1;
+        }
+
+        private void addPayload(int payload) {
+            if (payloadCount == payloads.length) {
+                payloads = Arrays.copyOf(payloads, payloadCount * 2);
+            }
+            payloads[payloadCount++] = payload;
+        }
+
+        private Node child(int key) {
+            for (int i = 0; i < childCount; i++) {
+                if (childKeys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int key, Node child) {
+            if (childCount == childKeys.length) {
+                int capacity = Math.max(4, childCount * 2);
+                childKeys = Arrays.copyOf(childKeys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            childKeys[childCount] = key;
+            children[childCount] = child;
+            childCount++;
+            maxChildKey = Math.max(maxChildKey, key);
+        }
+    }
+}
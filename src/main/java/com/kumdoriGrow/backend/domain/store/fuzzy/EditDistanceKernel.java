@@ -0,0 +1,21 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+/**
+ * 편집 거리 계산 커널
+ * - maxDistance를 넘는 것이 확실해지면 계산을 중단하고 maxDistance + 1을 돌려줄 수 있다
+ * - 구현체는 상태가 없거나 스레드별 버퍼만 사용하므로 여러 스레드에서 공유해도 안전하다
+ */
+public interface EditDistanceKernel {
+
+    /**
+     * @return 거리가 maxDistance 이하이면 정확한 거리, 아니면 maxDistance보다 큰 임의의 값
+     */
+    int distance(CharSequence a, CharSequence b, int maxDistance);
+
+    /**
+     * 상한 없이 정확한 거리
+     */
+    default int distance(CharSequence a, CharSequence b) {
+        return distance(a, b, Integer.MAX_VALUE - 1);
+    }
+}
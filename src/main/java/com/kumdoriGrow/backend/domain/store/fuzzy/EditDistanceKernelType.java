@@ -0,0 +1,22 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.function.Supplier;
+
+/**
+ * 설정(kumdori.store-matching.kernel)으로 고를 수 있는 편집 거리 커널 종류
+ */
+public enum EditDistanceKernelType {
+    FULL(FullMatrixLevenshtein::new),       // 기존 전체 행렬 방식 (비교용)
+    BANDED(BandedLevenshtein::new),         // 대역 제한 + 조기 종료
+    MYERS(MyersLevenshtein::new);           // 비트 병렬 (64자 초과 시 BANDED)
+
+    private final Supplier<EditDistanceKernel> factory;
+
+    EditDistanceKernelType(Supplier<EditDistanceKernel> factory) {
+        this.factory = factory;
+    }
+
+    public EditDistanceKernel create() {
+        return factory.get();
+    }
+}
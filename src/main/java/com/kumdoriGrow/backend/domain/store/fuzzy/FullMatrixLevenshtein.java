@@ -0,0 +1,32 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+/**
+ * 기존 (m+1)×(n+1) 전체 행렬 Levenshtein - 비교/검증 기준용
+ * - 매 호출마다 int[][]를 새로 만들고 상한과 무관하게 행렬 전체를 계산한다
+ */
+public final class FullMatrixLevenshtein implements EditDistanceKernel {
+
+    @Override
+    public int distance(CharSequence s1, CharSequence s2, int maxDistance) {
+        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+
+        for (int i = 0; i <= s1.length(); i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= s2.length(); j++) {
+            dp[0][j] = j;
+        }
+
+        for (int i = 1; i <= s1.length(); i++) {
+            for (int j = 1; j <= s2.length(); j++) {
+                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
+                    dp[i][j] = dp[i - 1][j - 1];
+                } else {
+                    dp[i][j] = Math.min(dp[i - 1][j], Math.min(dp[i][j - 1], dp[i - 1][j - 1])) + 1;
+                }
+            }
+        }
+
+        return dp[s1.length()][s2.length()];
+    }
+}
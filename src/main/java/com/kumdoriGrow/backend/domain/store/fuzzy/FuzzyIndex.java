@@ -0,0 +1,87 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정규화된 가게명/별칭에 대한 퍼지 후보 인덱스
+ * - 단어 길이별로 BK-tree를 나눠 두고, 임계값으로 허용되는 길이 구간/거리 반경 안에서만 검색한다
+ * - 유사도 정의: 1 - levenshtein / max(len1, len2) (같으면 1.0, 한쪽이 비면 0.0)
+ */
+public final class FuzzyIndex {
+
+    // 임계값 경계에서 부동소수 오차로 후보가 잘려나가지 않도록 반경 계산에만 쓰는 여유값
+    private static final double EPSILON = 1e-9;
+
+    private final BkTree[] treesByLength;
+
+    private FuzzyIndex(BkTree[] treesByLength) {
+        this.treesByLength = treesByLength;
+    }
+
+    /**
+     * terms의 i번째 단어는 검색 결과에서 ordinal i로 돌려준다
+     */
+    public static FuzzyIndex build(List<String> terms, EditDistanceKernel kernel) {
+        int maxLength = 0;
+        for (String term : terms) {
+            maxLength = Math.max(maxLength, term.length());
+        }
+
+        BkTree[] trees = new BkTree[maxLength + 1];
+        for (int ordinal = 0; ordinal < terms.size(); ordinal++) {
+            String term = terms.get(ordinal);
+            BkTree tree = trees[term.length()];
+            if (tree == null) {
+                tree = new BkTree(kernel);
+                trees[term.length()] = tree;
+            }
+            tree.add(term, ordinal);
+        }
+        return new FuzzyIndex(trees);
+    }
+
+    /**
+     * similarity(query, term) >= threshold 인 모든 단어를 ordinal 오름차순으로 반환
+     */
+    public List<Hit> search(String query, double threshold) {
+        List<Hit> hits = new ArrayList<>();
+        int q = query.length();
+        double slack = 1.0 - threshold;
+
+        // len < q 이면 d >= q - len 이고 d <= slack * q
+        int minLength = Math.max(0, q - (int) Math.floor(slack * q + EPSILON));
+        // len > q 이면 d >= len - q 이고 d <= slack * len <= slack * (q + d)  =>  d <= slack * q / threshold
+        int maxLength = q + (int) Math.floor(slack * q / threshold + EPSILON);
+
+        for (int length = minLength; length <= Math.min(maxLength, treesByLength.length - 1); length++) {
+            BkTree tree = treesByLength[length];
+            if (tree == null) {
+                continue;
+            }
+            int radius = (int) Math.floor(slack * Math.max(q, length) + EPSILON);
+            tree.search(query, radius, (term, distance, payloads, payloadCount) -> {
+                double similarity = similarity(query, term, distance);
+                if (similarity >= threshold) {
+                    for (int i = 0; i < payloadCount; i++) {
+                        hits.add(new Hit(payloads[i], similarity));
+                    }
+                }
+            });
+        }
+
+        hits.sort(Comparator.comparingInt(Hit::ordinal));
+        return hits;
+    }
+
+    static double similarity(String s1, String s2, int distance) {
+        if (s1.equals(s2)) return 1.0;
+        if (s1.isEmpty() || s2.isEmpty()) return 0.0;
+
+        int maxLength = Math.max(s1.length(), s2.length());
+        return 1.0 - (double) distance / maxLength;
+    }
+
+    public record Hit(int ordinal, double similarity) {}
+}
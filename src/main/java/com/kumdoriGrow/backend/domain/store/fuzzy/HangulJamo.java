@@ -0,0 +1,40 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+/**
+ * 한글 음절 → 자모 분해
+ * - 완성형 음절(가~힣)을 초성/중성/종성 호환 자모(ㄱ, ㅏ, ...)로 풀어 쓴다 (겹모음 ㅘ, 겹받침 ㄺ 은 한 글자 그대로)
+ * - 음절이 아닌 글자는 그대로 둔다
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String MEDIALS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String FINALS = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"; // 0번 = 받침 없음
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) {
+                sb.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_FIRST;
+            int fin = index % FINAL_COUNT;
+            sb.append(INITIALS.charAt(index / (MEDIAL_COUNT * FINAL_COUNT)))
+                    .append(MEDIALS.charAt(index / FINAL_COUNT % MEDIAL_COUNT));
+            if (fin != 0) {
+                sb.append(FINALS.charAt(fin));
+            }
+        }
+        return sb.toString();
+    }
+}
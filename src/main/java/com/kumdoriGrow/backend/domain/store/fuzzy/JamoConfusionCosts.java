@@ -0,0 +1,74 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.Arrays;
+
+/**
+ * 자모 치환 비용표 - OCR이 자주 헷갈리는 자모 쌍은 1보다 싸게 친다
+ * - 초성/종성은 같은 호환 자모를 쓰므로 한 쌍이 양쪽 위치에 모두 적용된다
+ * - 표에 없는 쌍과 자모가 아닌 글자는 일반 편집 거리처럼 1 (삽입/삭제도 항상 1)
+ */
+final class JamoConfusionCosts {
+
+    private static final char FIRST = 'ㄱ'; // U+3131
+    private static final char LAST = 'ㅣ';  // U+3163
+    private static final int SIZE = LAST - FIRST + 1;
+
+    private static final double[] COSTS = new double[SIZE * SIZE];
+
+    static {
+        Arrays.fill(COSTS, 1.0);
+        for (int i = 0; i < SIZE; i++) {
+            COSTS[i * SIZE + i] = 0.0;
+        }
+
+        // 획 하나가 붙거나 빠지는 모음
+        group(0.3, "ㅐㅔ");
+        group(0.3, "ㅒㅖ");
+        group(0.3, "ㅙㅞㅚ");
+        group(0.4, "ㅏㅑ");
+        group(0.4, "ㅓㅕ");
+        group(0.4, "ㅗㅛ");
+        group(0.4, "ㅜㅠ");
+        group(0.6, "ㅡㅗㅜ");
+        group(0.6, "ㅢㅣ");
+
+        // 모양이 닮은 자음
+        group(0.4, "ㅇㅁ");
+        group(0.5, "ㅇㅎ");
+        group(0.5, "ㅁㅂ");
+        group(0.5, "ㄱㅋ");
+        group(0.5, "ㄷㅌ");
+        group(0.5, "ㅈㅊ");
+        group(0.6, "ㅅㅈ");
+        group(0.6, "ㄴㄷ");
+        group(0.6, "ㄷㄹ");
+        group(0.6, "ㅂㅍ");
+
+        // 된소리 (획이 겹쳐 하나로 읽히는 경우)
+        group(0.5, "ㄱㄲ");
+        group(0.5, "ㄷㄸ");
+        group(0.5, "ㅂㅃ");
+        group(0.5, "ㅅㅆ");
+        group(0.5, "ㅈㅉ");
+    }
+
+    private JamoConfusionCosts() {
+    }
+
+    static double substitution(char a, char b) {
+        if (a == b) return 0.0;
+        if (a < FIRST || a > LAST || b < FIRST || b > LAST) return 1.0;
+        return COSTS[(a - FIRST) * SIZE + (b - FIRST)];
+    }
+
+    // 그룹 안의 모든 쌍에 양방향으로 같은 비용
+    private static void group(double cost, String jamos) {
+        for (int i = 0; i < jamos.length(); i++) {
+            for (int j = 0; j < jamos.length(); j++) {
+                if (i != j) {
+                    COSTS[(jamos.charAt(i) - FIRST) * SIZE + (jamos.charAt(j) - FIRST)] = cost;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자모 단위 퍼지 후보 인덱스
+ * - 단어는 빌드 시 한 번만 자모로 분해해 자모 길이별로 나눠 두고, 검색 시에는 질의만 분해한다
+ * - 거리: 치환은 JamoConfusionCosts 가중치, 삽입/삭제는 1 인 가중 편집 거리
+ * - 유사도 정의: 1 - 가중 거리 / max(자모 길이1, 자모 길이2) - 음절 한 글자에서 자모 하나만 틀리면 음절 거리보다 훨씬 가깝게 나온다
+ * - 가중 거리는 삼각 부등식을 보장하지 않으므로 BK-tree 대신 길이 구간 안을 거리 상한을 둔 DP로 훑는다
+ *   (검색 비용이 카탈로그 크기에 비례 - 기본값은 꺼져 있음, JamoFuzzyIndexBenchmark 참고)
+ * - DP 두 줄은 검색 호출마다 한 번 잡아 그 안의 모든 비교에 재사용한다 (NameNormalizer처럼 호출 단위 버퍼, ThreadLocal 없음)
+ */
+public final class JamoFuzzyIndex {
+
+    // FuzzyIndex와 같은 이유의 여유값 (가중치가 소수라 비교에도 사용)
+    private static final double EPSILON = 1e-9;
+
+    private final char[][][] termsByLength;  // 자모 길이 → 단어들의 자모 배열
+    private final int[][] ordinalsByLength;  // 자모 길이 → 단어들의 ordinal
+
+    private JamoFuzzyIndex(char[][][] termsByLength, int[][] ordinalsByLength) {
+        this.termsByLength = termsByLength;
+        this.ordinalsByLength = ordinalsByLength;
+    }
+
+    /**
+     * terms의 i번째 단어는 검색 결과에서 ordinal i로 돌려준다
+     */
+    public static JamoFuzzyIndex build(List<String> terms) {
+        char[][] decomposed = new char[terms.size()][];
+        int maxLength = 0;
+        for (int ordinal = 0; ordinal < terms.size(); ordinal++) {
+            decomposed[ordinal] = HangulJamo.decompose(terms.get(ordinal)).toCharArray();
+            maxLength = Math.max(maxLength, decomposed[ordinal].length);
+        }
+
+        int[] counts = new int[maxLength + 1];
+        for (char[] term : decomposed) {
+            counts[term.length]++;
+        }
+        char[][][] termsByLength = new char[maxLength + 1][][];
+        int[][] ordinalsByLength = new int[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            termsByLength[length] = new char[counts[length]][];
+            ordinalsByLength[length] = new int[counts[length]];
+            counts[length] = 0;
+        }
+        for (int ordinal = 0; ordinal < decomposed.length; ordinal++) {
+            int length = decomposed[ordinal].length;
+            termsByLength[length][counts[length]] = decomposed[ordinal];
+            ordinalsByLength[length][counts[length]] = ordinal;
+            counts[length]++;
+        }
+        return new JamoFuzzyIndex(termsByLength, ordinalsByLength);
+    }
+
+    /**
+     * 자모 유사도가 threshold 이상인 모든 단어를 ordinal 오름차순으로 반환
+     */
+    public List<FuzzyIndex.Hit> search(String query, double threshold) {
+        List<FuzzyIndex.Hit> hits = new ArrayList<>();
+        char[] q = HangulJamo.decompose(query).toCharArray();
+        double slack = 1.0 - threshold;
+
+        // 삽입/삭제 비용이 1이므로 길이 구간은 FuzzyIndex와 같은 식
+        int minLength = Math.max(0, q.length - (int) Math.floor(slack * q.length + EPSILON));
+        int maxLength = Math.min(q.length + (int) Math.floor(slack * q.length / threshold + EPSILON),
+                termsByLength.length - 1);
+        if (minLength > maxLength) {
+            return hits;
+        }
+
+        // 이번 검색에서 비교할 가장 긴 단어 기준으로 한 번만 할당
+        double[] prev = new double[maxLength + 1];
+        double[] cur = new double[maxLength + 1];
+        for (int length = minLength; length <= maxLength; length++) {
+            char[][] terms = termsByLength[length];
+            double maxDistance = (slack + EPSILON) * Math.max(q.length, length);
+            for (int k = 0; k < terms.length; k++) {
+                double similarity = similarity(q, terms[k], distance(q, terms[k], maxDistance, prev, cur));
+                if (similarity + EPSILON >= threshold) {
+                    hits.add(new FuzzyIndex.Hit(ordinalsByLength[length][k], similarity));
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingInt(FuzzyIndex.Hit::ordinal));
+        return hits;
+    }
+
+    /**
+     * 두 문자열의 자모 유사도 (색인 없이 한 쌍만 비교할 때)
+     */
+    public static double similarity(String s1, String s2) {
+        char[] a = HangulJamo.decompose(s1).toCharArray();
+        char[] b = HangulJamo.decompose(s2).toCharArray();
+        return similarity(a, b, distance(a, b, Double.MAX_VALUE));
+    }
+
+    private static double similarity(char[] a, char[] b, double distance) {
+        if (distance == 0.0 && a.length == b.length) return 1.0;
+        if (a.length == 0 || b.length == 0) return 0.0;
+        return 1.0 - distance / Math.max(a.length, b.length);
+    }
+
+    /**
+     * 가중 편집 거리 - maxDistance를 넘는 것이 확실해지면 중단하고 +∞
+     * - 대각선에서 k칸 벗어나려면 삽입/삭제만 k번 필요하므로 |i - j| <= maxDistance 띠 안만 계산
+     */
+    static double distance(char[] a, char[] b, double maxDistance) {
+        return distance(a, b, maxDistance, new double[b.length + 1], new double[b.length + 1]);
+    }
+
+    /**
+     * prev/cur: 길이 b.length + 1 이상인 작업 버퍼 (내용은 덮어씀)
+     */
+    private static double distance(char[] a, char[] b, double maxDistance, double[] prev, double[] cur) {
+        int n = a.length;
+        int m = b.length;
+        if (Math.abs(n - m) > maxDistance) return Double.POSITIVE_INFINITY;
+        if (n == 0) return m;
+        if (m == 0) return n;
+
+        int k = (int) Math.min(Math.max(n, m), Math.floor(maxDistance));
+        double inf = Double.POSITIVE_INFINITY;
+
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j <= k ? j : inf;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - k);
+            int to = Math.min(m, i + k);
+
+            cur[from - 1] = (from == 1 && i <= k) ? i : inf;
+            double rowMin = cur[from - 1];
+            char ca = a[i - 1];
+
+            for (int j = from; j <= to; j++) {
+                double v = prev[j - 1] + JamoConfusionCosts.substitution(ca, b[j - 1]);
+                double del = prev[j] + 1;
+                double ins = cur[j - 1] + 1;
+                if (del < v) v = del;
+                if (ins < v) v = ins;
+                cur[j] = v;
+                if (v < rowMin) rowMin = v;
+            }
+            if (to < m) {
+                cur[to + 1] = inf;
+            }
+
+            if (rowMin > maxDistance) return inf;
+
+            double[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+
+        return prev[m] > maxDistance ? inf : prev[m];
+    }
+}
@@ -0,0 +1,111 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+/**
+ * Myers/Hyyrö 비트 병렬 Levenshtein
+ * - 짧은 쪽 문자열이 64자 이하이면 한 열을 long 하나로 처리한다 (O(n) 워드 연산)
+ * - 남은 열을 모두 맞춰도 상한을 넘는 것이 확실하면 즉시 중단한다
+ * - 64자를 넘는 문자열은 BandedLevenshtein으로 위임한다
+ */
+public final class MyersLevenshtein implements EditDistanceKernel {
+
+    private static final int MAX_PATTERN_LENGTH = 64;
+
+    private static final ThreadLocal<PeqTable> PEQ = ThreadLocal.withInitial(PeqTable::new);
+
+    private final EditDistanceKernel fallback = new BandedLevenshtein();
+
+    @Override
+    public int distance(CharSequence a, CharSequence b, int maxDistance) {
+        // 짧은 쪽을 패턴으로
+        CharSequence pattern = a.length() <= b.length() ? a : b;
+        CharSequence text = pattern == a ? b : a;
+        int m = pattern.length();
+        int n = text.length();
+        int k = Math.max(0, Math.min(maxDistance, n));
+
+        if (n - m > k) return k + 1;
+        if (m == 0) return n;
+        if (m > MAX_PATTERN_LENGTH) return fallback.distance(a, b, maxDistance);
+
+        PeqTable peq = PEQ.get();
+        peq.reset();
+        for (int i = 0; i < m; i++) {
+            peq.or(pattern.charAt(i), 1L << i);
+        }
+
+        long pv = -1L;
+        long mv = 0L;
+        long last = 1L << (m - 1);
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long eq = peq.get(text.charAt(j));
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+
+            // 남은 열마다 최대 1씩만 줄어들 수 있다
+            if (score - (n - j - 1) > k) return k + 1;
+
+            ph = (ph << 1) | 1L;
+            mh = mh << 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+
+        return score;
+    }
+
+    /**
+     * 문자 → 패턴 내 위치 비트마스크 (open addressing, 세대 번호로 초기화 비용 제거)
+     */
+    private static final class PeqTable {
+        private static final int SIZE = 256; // 패턴 최대 64종 문자 기준 충분한 여유
+        private static final int MASK = SIZE - 1;
+
+        private final char[] keys = new char[SIZE];
+        private final long[] masks = new long[SIZE];
+        private final int[] stamps = new int[SIZE];
+        private int generation;
+
+        private void reset() {
+            generation++;
+            if (generation == 0) {
+                java.util.Arrays.fill(stamps, 0);
+                generation = 1;
+            }
+        }
+
+        private void or(char c, long bit) {
+            int slot = c & MASK;
+            while (stamps[slot] == generation) {
+                if (keys[slot] == c) {
+                    masks[slot] |= bit;
+                    return;
+                }
+                slot = (slot + 1) & MASK;
+            }
+            stamps[slot] = generation;
+            keys[slot] = c;
+            masks[slot] = bit;
+        }
+
+        private long get(char c) {
+            int slot = c & MASK;
+            while (stamps[slot] == generation) {
+                if (keys[slot] == c) {
+                    return masks[slot];
+                }
+                slot = (slot + 1) & MASK;
+            }
+            return 0L;
+        }
+    }
+}
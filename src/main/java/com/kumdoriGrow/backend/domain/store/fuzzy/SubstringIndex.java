@@ -0,0 +1,140 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부분 문자열(contains) 검색용 n-gram 역색인 (n = 1..3)
+ * - 3자 이하 질의는 그 자체가 gram이므로 posting 목록이 곧 정답이다
+ * - 더 긴 질의는 trigram posting들을 작은 것부터 교집합한 뒤 contains로 최종 확인한다
+ * - 빌드 이후 읽기 전용 (동시 검색 안전)
+ */
+public final class SubstringIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final List<String> terms;
+    private final Map<Long, int[]> postings;
+
+    private SubstringIndex(List<String> terms, Map<Long, int[]> postings) {
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    /**
+     * terms의 i번째 단어는 검색 결과에서 ordinal i로 돌려준다
+     */
+    public static SubstringIndex build(List<String> terms) {
+        Map<Long, PostingBuilder> builders = new HashMap<>();
+        for (int ordinal = 0; ordinal < terms.size(); ordinal++) {
+            String term = terms.get(ordinal);
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int start = 0; start + n <= term.length(); start++) {
+                    builders.computeIfAbsent(gramKey(term, start, n), k -> new PostingBuilder()).add(ordinal);
+                }
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+        return new SubstringIndex(List.copyOf(terms), postings);
+    }
+
+    /**
+     * term.contains(query)인 모든 ordinal (오름차순)
+     */
+    public int[] search(String query) {
+        int q = query.length();
+        if (q == 0) {
+            // String.contains("")는 항상 참 - 기존 LIKE '%%' 의미 유지
+            int[] all = new int[terms.size()];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        if (q <= MAX_GRAM) {
+            return postings.getOrDefault(gramKey(query, 0, q), NONE);
+        }
+
+        // 질의의 trigram posting 수집 - 하나라도 없으면 결과 없음
+        int gramCount = q - MAX_GRAM + 1;
+        int[][] lists = new int[gramCount][];
+        for (int start = 0; start < gramCount; start++) {
+            int[] posting = postings.get(gramKey(query, start, MAX_GRAM));
+            if (posting == null) {
+                return NONE;
+            }
+            lists[start] = posting;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] candidates = lists[0];
+        int size = candidates.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            if (lists[i] == lists[i - 1]) {
+                continue; // 같은 trigram 반복
+            }
+            int[] next = new int[size];
+            size = intersect(candidates, size, lists[i], next);
+            candidates = next;
+        }
+
+        // trigram이 모두 있어도 순서/인접 여부는 보장되지 않으므로 최종 확인
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (terms.get(candidates[i]).contains(query)) {
+                result[count++] = candidates[i];
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static int intersect(int[] a, int aSize, int[] b, int[] out) {
+        int i = 0, j = 0, k = 0;
+        while (i < aSize && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k;
+    }
+
+    // 길이(상위 16비트) + 최대 3개의 UTF-16 문자를 long 하나로 인코딩
+    private static long gramKey(String s, int start, int n) {
+        long key = n;
+        for (int i = 0; i < n; i++) {
+            key = (key << 16) | s.charAt(start + i);
+        }
+        return key;
+    }
+
+    private static final class PostingBuilder {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int ordinal) {
+            // 같은 단어에 gram이 여러 번 나와도 한 번만 (ordinal은 오름차순으로 들어온다)
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 누적 경험치 스냅샷 (xp_ledger 합계의 물리화)
+ * - 평소에는 XpLedger가 원장 기록과 같은 트랜잭션에서 원자적 UPDATE로 증가시킨다
+ * - 행이 없는 첫 적립은 UserExperienceUpsert로 만든다 (동시 첫 적립끼리 PK 충돌 없음)
+ * - lastLedgerId까지의 원장이 totalExp에 반영되어 있다 (조회 = 스냅샷 + 이후 증분)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "user_experience")
+public class UserExperience {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_exp", nullable = false)
+    private Long totalExp = 0L;
+
+    @Column(name = "level", nullable = false)
+    private Integer level = 1;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    public UserExperience(Long userId, long totalExp, int level) {
+        this.userId = userId;
+        this.totalExp = totalExp;
+        this.level = level;
+    }
+}
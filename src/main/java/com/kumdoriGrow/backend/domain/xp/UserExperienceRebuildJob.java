@@ -0,0 +1,84 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * user_experience 스냅샷 재구성 배치
+ * - xp_ledger 전체 합계/마지막 id로 스냅샷을 맞춘다 (XpLedger 밖에서 들어온 원장 행 반영, 드리프트 보정)
+ * - 사용자 단위 트랜잭션에서 스냅샷 행을 먼저 잠그고 원장을 다시 읽으므로 동시 적립과 충돌하지 않는다
+ */
+@Slf4j
+@Component
+public class UserExperienceRebuildJob {
+
+    private final UserExperienceRepository userExperienceRepository;
+    private final UserExperienceUpsert userExperienceUpsert;
+    private final XpLedgerRepository xpLedgerRepository;
+    private final ExpCalculator expCalculator;
+    private final TransactionTemplate tx;
+
+    public UserExperienceRebuildJob(UserExperienceRepository userExperienceRepository,
+                                    UserExperienceUpsert userExperienceUpsert,
+                                    XpLedgerRepository xpLedgerRepository,
+                                    ExpCalculator expCalculator,
+                                    PlatformTransactionManager transactionManager) {
+        this.userExperienceRepository = userExperienceRepository;
+        this.userExperienceUpsert = userExperienceUpsert;
+        this.xpLedgerRepository = xpLedgerRepository;
+        this.expCalculator = expCalculator;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${kumdori.xp.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    /**
+     * @return 값이 바뀐 사용자 수
+     */
+    public int rebuildAll() {
+        List<Long> userIds = xpLedgerRepository.findDistinctUserIds();
+        int corrected = 0;
+        for (Long userId : userIds) {
+            Boolean changed = tx.execute(status -> rebuild(userId));
+            if (Boolean.TRUE.equals(changed)) {
+                corrected++;
+            }
+        }
+        log.info("[XP] Rebuild finished: users={}, corrected={}", userIds.size(), corrected);
+        return corrected;
+    }
+
+    private boolean rebuild(Long userId) {
+        UserExperience experience = userExperienceRepository.findForUpdate(userId).orElse(null);
+        long total = xpLedgerRepository.sumDeltaAfter(userId, 0L);
+        long lastLedgerId = xpLedgerRepository.findMaxId(userId);
+        int level = expCalculator.levelOf(total);
+
+        if (experience == null) {
+            // 잠글 행이 없으므로 INSERT와 동시 첫 적립이 겹쳐도 실패하지 않게 upsert (이미 생겼으면 그대로 둔다)
+            userExperienceUpsert.upsert(userId, total, level, lastLedgerId, 0L, 0L, Instant.now());
+            return true;
+        }
+        if (experience.getTotalExp() == total && experience.getLevel() == level
+                && experience.getLastLedgerId() == lastLedgerId) {
+            return false;
+        }
+
+        log.warn("[XP] Snapshot drift corrected: user={}, stored={}, actual={}", userId, experience.getTotalExp(), total);
+        experience.setTotalExp(total);
+        experience.setLevel(level);
+        experience.setLastLedgerId(lastLedgerId);
+        experience.setUpdatedAt(Instant.now());
+        return true;
+    }
+}
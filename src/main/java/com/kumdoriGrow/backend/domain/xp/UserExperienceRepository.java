@@ -0,0 +1,33 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface UserExperienceRepository extends JpaRepository<UserExperience, Long> {
+
+    // UPDATE ... SET total_exp = total_exp + ? (행 잠금으로 동시 적립도 유실 없음), 커서는 뒤로 가지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("update UserExperience ue set ue.totalExp = ue.totalExp + :delta, " +
+            "ue.lastLedgerId = case when ue.lastLedgerId < :ledgerId then :ledgerId else ue.lastLedgerId end, " +
+            "ue.updatedAt = :now where ue.userId = :userId")
+    int addExp(@Param("userId") Long userId, @Param("delta") long delta,
+               @Param("ledgerId") long ledgerId, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserExperience ue set ue.level = :level where ue.userId = :userId")
+    int updateLevel(@Param("userId") Long userId, @Param("level") int level);
+
+    @Query("select ue.totalExp from UserExperience ue where ue.userId = :userId")
+    Optional<Long> findTotalExp(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select ue from UserExperience ue where ue.userId = :userId")
+    Optional<UserExperience> findForUpdate(@Param("userId") Long userId);
+}
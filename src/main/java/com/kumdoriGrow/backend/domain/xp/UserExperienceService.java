@@ -0,0 +1,31 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 누적 경험치/레벨 조회
+ * - 적립은 XpLedger로만 한다
+ * - 조회는 user_experience 스냅샷 + 커서 이후 원장 증분 (둘 다 PK/인덱스 조회, 전체 SUM 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserExperienceService {
+
+    private final UserExperienceRepository userExperienceRepository;
+    private final XpLedgerRepository xpLedgerRepository;
+    private final ExpCalculator expCalculator;
+
+    @Transactional(readOnly = true)
+    public long getTotalExp(Long userId) {
+        return userExperienceRepository.findById(userId)
+                .map(snapshot -> snapshot.getTotalExp() + xpLedgerRepository.sumDeltaAfter(userId, snapshot.getLastLedgerId()))
+                .orElseGet(() -> xpLedgerRepository.sumDeltaAfter(userId, 0L));
+    }
+
+    public int levelOf(long totalExp) {
+        return expCalculator.levelOf(totalExp);
+    }
+}
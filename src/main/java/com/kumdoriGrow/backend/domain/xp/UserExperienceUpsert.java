@@ -0,0 +1,72 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * user_experience 스냅샷 행 생성/증가를 한 문장으로 처리
+ * - 행이 없으면 seed 값으로 INSERT, 이미 있으면 delta만 더한다 (첫 적립이 동시에 들어와도 PK 충돌로 실패하지 않음)
+ * - MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, 그 외(H2)는 MERGE
+ * - H2의 MERGE는 동시 INSERT끼리 원자적이지 않으므로 중복 키가 나면 기존 행에 delta를 더하는 UPDATE로 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExperienceUpsert {
+
+    private static final String MYSQL_SQL =
+            "insert into user_experience (user_id, total_exp, level, last_ledger_id, updated_at) values (?, ?, ?, ?, ?) " +
+                    "on duplicate key update total_exp = total_exp + ?, " +
+                    "last_ledger_id = greatest(last_ledger_id, ?), updated_at = ?";
+
+    private static final String MERGE_SQL =
+            "merge into user_experience t using (select cast(? as bigint) as user_id) s on t.user_id = s.user_id " +
+                    "when matched then update set total_exp = t.total_exp + ?, " +
+                    "last_ledger_id = greatest(t.last_ledger_id, ?), updated_at = ? " +
+                    "when not matched then insert (user_id, total_exp, level, last_ledger_id, updated_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserExperienceRepository userExperienceRepository;
+
+    private volatile Boolean mysql;
+
+    /**
+     * @param seedTotal        행이 없을 때 쓸 누적 경험치 (원장 전체 합계)
+     * @param seedLastLedgerId 행이 없을 때 쓸 커서 (seedTotal에 포함된 마지막 원장 id)
+     * @param delta            행이 이미 있을 때 더할 증분
+     * @param lastLedgerId     행이 이미 있을 때 커서를 옮길 id (delta에 포함된 마지막 원장 id)
+     */
+    public void upsert(Long userId, long seedTotal, int seedLevel, long seedLastLedgerId,
+                       long delta, long lastLedgerId, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        if (isMysql()) {
+            jdbcTemplate.update(MYSQL_SQL, userId, seedTotal, seedLevel, seedLastLedgerId, updatedAt,
+                    delta, lastLedgerId, updatedAt);
+            return;
+        }
+        try {
+            jdbcTemplate.update(MERGE_SQL, userId, delta, lastLedgerId, updatedAt,
+                    userId, seedTotal, seedLevel, seedLastLedgerId, updatedAt);
+        } catch (DuplicateKeyException e) {
+            log.debug("[XP] Concurrent snapshot insert, adding delta instead: user={}", userId);
+            userExperienceRepository.addExp(userId, delta, lastLedgerId, now);
+        }
+    }
+
+    private boolean isMysql() {
+        Boolean cached = mysql;
+        if (cached == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            cached = product != null && (product.contains("MySQL") || product.contains("MariaDB"));
+            mysql = cached;
+        }
+        return cached;
+    }
+}
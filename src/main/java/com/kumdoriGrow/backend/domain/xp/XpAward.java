@@ -0,0 +1,30 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+/**
+ * 원장에 기록할 경험치 적립 한 건
+ * - idempotencyKey가 같은 적립은 한 번만 기록된다
+ *   (영수증 receipt:{receiptId}, 보상 reward:{rewardGrantId}, 운영자 보정 adjust:{보정 건 id})
+ */
+public record XpAward(Long userId, Long receiptId, int deltaExp, XpReason reason, String idempotencyKey) {
+
+    public static XpAward forReceipt(Long userId, Long receiptId, int exp) {
+        return new XpAward(userId, receiptId, exp, XpReason.RECEIPT, "receipt:" + receiptId);
+    }
+
+    /**
+     * 보상 지급 한 건(reward_grants)에 딸린 경험치 - 같은 지급이 재처리되어도 한 번만 적립
+     */
+    public static XpAward forReward(Long userId, Long rewardGrantId, int exp) {
+        return new XpAward(userId, null, exp, XpReason.REWARD, "reward:" + rewardGrantId);
+    }
+
+    /**
+     * 운영자 보정 (음수 가능) - correctionId는 보정 요청마다 고유한 값 (예: 문의 티켓 번호)
+     */
+    public static XpAward adjustment(Long userId, int deltaExp, String correctionId) {
+        if (correctionId == null || correctionId.isBlank()) {
+            throw new IllegalArgumentException("correctionId is required for an XP adjustment");
+        }
+        return new XpAward(userId, null, deltaExp, XpReason.ADJUSTMENT, "adjust:" + correctionId);
+    }
+}
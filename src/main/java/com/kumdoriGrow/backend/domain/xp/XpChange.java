@@ -0,0 +1,11 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+/**
+ * 적립 전후 누적 경험치/레벨
+ */
+public record XpChange(long oldTotal, long newTotal, int oldLevel, int newLevel) {
+
+    public boolean leveledUp() {
+        return newLevel > oldLevel;
+    }
+}
@@ -0,0 +1,158 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 경험치 원장 - 모든 경험치 적립의 단일 기록 경로
+ * - 적립은 xp_ledger에 불변 행으로 배치 INSERT 하고, 같은 트랜잭션에서 user_experience 스냅샷에 반영한다
+ * - idempotency_key가 이미 있는 적립은 건너뛴다 (같은 영수증 재처리 시 중복 적립 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class XpLedger {
+
+    private static final String INSERT_SQL =
+            "insert into xp_ledger (user_id, receipt_id, delta_exp, reason, idempotency_key, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final XpLedgerRepository xpLedgerRepository;
+    private final UserExperienceRepository userExperienceRepository;
+    private final UserExperienceUpsert userExperienceUpsert;
+    private final ExpCalculator expCalculator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 단건 적립
+     */
+    @Transactional
+    public XpChange record(XpAward award) {
+        return recordAll(List.of(award)).get(award.userId());
+    }
+
+    /**
+     * 여러 건 적립 - INSERT는 한 번의 JDBC 배치, 스냅샷 반영은 사용자당 UPDATE 한 번
+     *
+     * @return 사용자별 적립 전후 경험치/레벨 (입력 순서)
+     */
+    @Transactional
+    public Map<Long, XpChange> recordAll(List<XpAward> awards) {
+        if (awards.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Appended> appended = append(awards);
+
+        // 사용자별 증분 합계와 마지막 원장 id
+        Map<Long, long[]> perUser = new LinkedHashMap<>();
+        for (XpAward award : awards) {
+            perUser.putIfAbsent(award.userId(), new long[]{0L, 0L});
+        }
+        for (Appended entry : appended) {
+            long[] acc = perUser.get(entry.award().userId());
+            acc[0] += entry.award().deltaExp();
+            acc[1] = Math.max(acc[1], entry.id());
+        }
+
+        Instant now = Instant.now();
+        Map<Long, XpChange> changes = new LinkedHashMap<>();
+        perUser.forEach((userId, acc) -> changes.put(userId, fold(userId, acc[0], acc[1], now)));
+        return changes;
+    }
+
+    private List<Appended> append(List<XpAward> awards) {
+        // 영수증 등 FK 대상이 JPA 쓰기 지연으로 아직 INSERT 전일 수 있으므로 먼저 flush
+        entityManager.flush();
+
+        Map<String, XpAward> byKey = new LinkedHashMap<>();
+        for (XpAward award : awards) {
+            byKey.putIfAbsent(award.idempotencyKey(), award);
+        }
+        for (String existing : xpLedgerRepository.findExistingKeys(byKey.keySet())) {
+            log.info("[XP] Skipping already recorded award: key={}", existing);
+            byKey.remove(existing);
+        }
+        if (byKey.isEmpty()) {
+            return List.of();
+        }
+
+        List<XpAward> pending = new ArrayList<>(byKey.values());
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        XpAward award = pending.get(i);
+                        ps.setLong(1, award.userId());
+                        if (award.receiptId() != null) {
+                            ps.setLong(2, award.receiptId());
+                        } else {
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setInt(3, award.deltaExp());
+                        ps.setString(4, award.reason().name());
+                        ps.setString(5, award.idempotencyKey());
+                        ps.setTimestamp(6, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return pending.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성 키 컬럼명은 드라이버마다 다르므로(ID / GENERATED_KEY) 첫 값만 사용
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Appended> appended = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            appended.add(new Appended(pending.get(i), id));
+        }
+        return appended;
+    }
+
+    private XpChange fold(Long userId, long delta, long lastLedgerId, Instant now) {
+        int updated = userExperienceRepository.addExp(userId, delta, lastLedgerId, now);
+        if (updated == 0) {
+            // 스냅샷이 없는 사용자: 방금 기록한 것까지 포함한 원장 전체로 시드
+            // 다른 트랜잭션이 먼저 행을 만들었으면 upsert가 이번 증분만 더한다
+            long seed = xpLedgerRepository.sumDeltaAfter(userId, 0L);
+            userExperienceUpsert.upsert(userId, seed, expCalculator.levelOf(seed), xpLedgerRepository.findMaxId(userId),
+                    delta, lastLedgerId, now);
+        }
+        long newTotal = userExperienceRepository.findTotalExp(userId).orElse(delta);
+
+        long oldTotal = newTotal - delta;
+        int oldLevel = expCalculator.levelOf(oldTotal);
+        int newLevel = expCalculator.levelOf(newTotal);
+        if (updated == 0 || newLevel != oldLevel) {
+            userExperienceRepository.updateLevel(userId, newLevel);
+        }
+        return new XpChange(oldTotal, newTotal, oldLevel, newLevel);
+    }
+
+    private record Appended(XpAward award, long id) {
+    }
+}
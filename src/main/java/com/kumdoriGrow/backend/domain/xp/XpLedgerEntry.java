@@ -0,0 +1,45 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * 경험치 원장 (append-only)
+ * - 쓰기는 XpLedger의 JDBC 배치 INSERT로만 한다. 엔티티는 조회/스키마용
+ */
+@Getter
+@NoArgsConstructor
+@Immutable
+@Entity
+@Table(name = "xp_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_xp_ledger_idempotency", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_xp_ledger_user_id", columnList = "user_id,id"))
+public class XpLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "receipt_id")
+    private Long receiptId;
+
+    @Column(name = "delta_exp", nullable = false)
+    private Integer deltaExp;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 100)
+    private XpReason reason;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,24 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface XpLedgerRepository extends JpaRepository<XpLedgerEntry, Long> {
+
+    // 스냅샷 커서 이후 증분 (idx_xp_ledger_user_id 범위 스캔)
+    @Query("select coalesce(sum(e.deltaExp), 0) from XpLedgerEntry e where e.userId = :userId and e.id > :afterId")
+    long sumDeltaAfter(@Param("userId") Long userId, @Param("afterId") long afterId);
+
+    @Query("select coalesce(max(e.id), 0) from XpLedgerEntry e where e.userId = :userId")
+    long findMaxId(@Param("userId") Long userId);
+
+    @Query("select e.idempotencyKey from XpLedgerEntry e where e.idempotencyKey in :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    @Query("select distinct e.userId from XpLedgerEntry e")
+    List<Long> findDistinctUserIds();
+}
@@ -0,0 +1,10 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+/**
+ * 경험치 원장 기록 사유
+ */
+public enum XpReason {
+    RECEIPT,    // 영수증 인증
+    REWARD,     // 보상 지급
+    ADJUSTMENT  // 운영자 보정
+}
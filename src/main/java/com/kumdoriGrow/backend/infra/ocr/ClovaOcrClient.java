@@ -5,7 +5,6 @@ import com.kumdoriGrow.backend.config.OcrProperties;
 import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -34,6 +33,7 @@ public class ClovaOcrClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper om = new ObjectMapper();
     private final OcrProperties props;
+    private final OcrCircuitBreaker circuitBreaker;
 
     public OcrResult request(MultipartFile file) {
         // OCR 설정이 없으면 빈 결과 반환 (null-safe 처리)
@@ -43,6 +43,11 @@ public class ClovaOcrClient {
             return new OcrResult(); // 빈 결과 객체 반환
         }
         
+        // 서킷 OPEN/벌크헤드 포화 시 백엔드를 기다리지 않고 OcrUnavailableException
+        return circuitBreaker.execute(() -> send(file));
+    }
+
+    private OcrResult send(MultipartFile file) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -63,9 +68,9 @@ public class ClovaOcrClient {
             HttpHeaders fileHeader = new HttpHeaders();
             fileHeader.setContentType(MediaType.parseMediaType(
                     file.getContentType() != null ? file.getContentType() : MediaType.IMAGE_JPEG_VALUE));
-            HttpEntity<Resource> filePart = new HttpEntity<>(new ByteArrayResource(file.getBytes()) {
-                @Override public String getFilename() { return "upload." + guessExt(file); }
-            }, fileHeader);
+            // 이미지 바이트를 힙에 올리지 않고 업로드 스트림에서 바로 전송
+            HttpEntity<Resource> filePart = new HttpEntity<>(
+                    new MultipartUploadResource(file, "upload." + guessExt(file)), fileHeader);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("message", messagePart);
@@ -76,9 +81,8 @@ public class ClovaOcrClient {
             // OCR 요청 정보 로깅
             String format = guessExt(file);
             boolean hasSecret = props.apiKey() != null && !props.apiKey().isEmpty();
-            int base64Length = file.getBytes().length;
-            log.info("[ClovaOcrClient] OCR Request - endpoint: {}, hasSecret: {}, format: {}, base64Length: {}", 
-                props.apiUrl(), hasSecret, format, base64Length);
+            log.info("[ClovaOcrClient] OCR Request - endpoint: {}, hasSecret: {}, format: {}, bytes: {}", 
+                props.apiUrl(), hasSecret, format, file.getSize());
             
             ResponseEntity<String> res = restTemplate.postForEntity(props.apiUrl(), req, String.class);
 
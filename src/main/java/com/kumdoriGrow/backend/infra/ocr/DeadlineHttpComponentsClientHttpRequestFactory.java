@@ -0,0 +1,168 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 전체 마감(total deadline)을 거는 HttpComponents 요청 팩토리
+ * - Apache HttpClient의 타임아웃은 연결/임대/소켓 읽기 간격 단위라서, 서버가 조금씩 흘려보내면 끝없이 늘어질 수 있다
+ * - execute() 시점에 마감 시각의 cancel()을 예약하고, 마감이 지나면 연결째 중단시킨다
+ * - 응답을 닫거나 실행이 실패하면 예약을 취소해 스케줄러 큐에 끝난 요청이 남지 않게 한다
+ * - 감싼 요청도 StreamingHttpOutputMessage로 남겨 multipart 본문(영수증 이미지)을 버퍼에 모으지 않고 흘려보낸다
+ */
+public class DeadlineHttpComponentsClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final long deadlineMillis;
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "ocr-http-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // createHttpUriRequest()가 만든 요청을 같은 createRequest() 호출 안에서 넘겨받기 위한 자리 (넣자마자 꺼내 지운다)
+    private final ThreadLocal<Cancellable> created = new ThreadLocal<>();
+
+    public DeadlineHttpComponentsClientHttpRequestFactory(HttpClient httpClient, Duration deadline) {
+        super(httpClient);
+        this.deadlineMillis = deadline.toMillis();
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        Cancellable cancellable;
+        try {
+            request = super.createRequest(uri, httpMethod);
+            cancellable = created.get();
+        } finally {
+            created.remove();
+        }
+        if (cancellable != null && request instanceof StreamingHttpOutputMessage streaming) {
+            return new DeadlineRequest(request, streaming, cancellable);
+        }
+        return request;
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        if (request instanceof Cancellable cancellable) {
+            created.set(cancellable);
+        }
+        return request;
+    }
+
+    // 테스트용 - 아직 실행되지 않은 마감 예약 수
+    int pendingDeadlines() {
+        return scheduler.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        scheduler.shutdownNow();
+        super.destroy();
+    }
+
+    private final class DeadlineRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final ClientHttpRequest delegate;
+        private final StreamingHttpOutputMessage streaming; // delegate와 같은 객체
+        private final Cancellable cancellable;
+
+        private DeadlineRequest(ClientHttpRequest delegate, StreamingHttpOutputMessage streaming, Cancellable cancellable) {
+            this.delegate = delegate;
+            this.streaming = streaming;
+            this.cancellable = cancellable;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> deadline = scheduler.schedule(cancellable::cancel, deadlineMillis, TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        // FormHttpMessageConverter 등이 본문을 execute() 시점에 소켓으로 바로 쓰도록 그대로 넘긴다
+        @Override
+        public void setBody(Body body) {
+            streaming.setBody(body);
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+    }
+
+    private record DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            deadline.cancel(false);
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.geom.AffineTransform;
+import java.io.IOException;
+
+/**
+ * JPEG EXIF Orientation 태그(0x0112) 읽기와 보정 변환
+ * - javax.imageio JPEG 리더는 APP1(Exif)을 해석하지 않고 unknown 마커로 넘기므로 IFD0만 직접 훑는다
+ * - 값: 1 정상, 2 좌우 반전, 3 180°, 4 상하 반전, 5 전치, 6 시계 90°, 7 역전치, 8 시계 270°
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1 = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int TYPE_SHORT = 3;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 첫 이미지의 Orientation 값, JPEG가 아니거나 태그가 없으면 1
+     */
+    static int read(ImageReader reader) {
+        try {
+            if (!"jpeg".equalsIgnoreCase(reader.getFormatName())) {
+                return NORMAL;
+            }
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null) {
+                return NORMAL;
+            }
+            Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+            for (Node sequence = root.getFirstChild(); sequence != null; sequence = sequence.getNextSibling()) {
+                if (!"markerSequence".equals(sequence.getNodeName())) {
+                    continue;
+                }
+                for (Node marker = sequence.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                    if (isApp1(marker) && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data) {
+                        int orientation = parse(data);
+                        if (orientation != NORMAL) {
+                            return orientation;
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 메타데이터가 깨져 있으면 보정 없이 진행
+        }
+        return NORMAL;
+    }
+
+    /**
+     * APP1 본문("Exif\0\0" + TIFF)에서 IFD0의 Orientation 값
+     */
+    static int parse(byte[] app1) {
+        int tiff = 6;
+        if (app1.length < tiff + 8 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f'
+                || app1[4] != 0 || app1[5] != 0) {
+            return NORMAL;
+        }
+        boolean littleEndian;
+        if (app1[tiff] == 'I' && app1[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (app1[tiff] == 'M' && app1[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return NORMAL;
+        }
+
+        long ifd = tiff + u32(app1, tiff + 4, littleEndian);
+        if (ifd + 2 > app1.length) {
+            return NORMAL;
+        }
+        int count = u16(app1, (int) ifd, littleEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > app1.length) {
+                break;
+            }
+            if (u16(app1, entry, littleEndian) == ORIENTATION_TAG) {
+                if (u16(app1, entry + 2, littleEndian) != TYPE_SHORT) {
+                    return NORMAL;
+                }
+                int value = u16(app1, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 보정하면 가로/세로가 바뀌는지 (5~8)
+     */
+    static boolean swapsAxes(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * width x height로 그린 저장 방향 이미지를 보는 방향으로 옮기는 변환
+     */
+    static AffineTransform transform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+    }
+
+    private static boolean isApp1(Node marker) {
+        if (!"unknown".equals(marker.getNodeName())) {
+            return false;
+        }
+        NamedNodeMap attributes = marker.getAttributes();
+        Node tag = attributes == null ? null : attributes.getNamedItem("MarkerTag");
+        return tag != null && String.valueOf(APP1).equals(tag.getNodeValue());
+    }
+
+    private static int u16(byte[] b, int offset, boolean littleEndian) {
+        int b0 = b[offset] & 0xFF;
+        int b1 = b[offset + 1] & 0xFF;
+        return littleEndian ? b0 | (b1 << 8) : (b0 << 8) | b1;
+    }
+
+    private static long u32(byte[] b, int offset, boolean littleEndian) {
+        long hi = u16(b, littleEndian ? offset + 2 : offset, littleEndian);
+        long lo = u16(b, littleEndian ? offset : offset + 2, littleEndian);
+        return (hi << 16) | lo;
+    }
+}
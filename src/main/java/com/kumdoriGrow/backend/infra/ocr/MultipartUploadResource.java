@@ -0,0 +1,44 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일을 OCR 요청 본문으로 그대로 흘려보내는 Resource
+ * - getBytes()로 이미지 전체를 힙에 복사하지 않고, 전송 시점에 MultipartFile 입력 스트림을 열어 버퍼 단위로 복사한다
+ *   (Tomcat은 업로드를 임시 파일로 받아 두므로 요청당 힙 사용량은 복사 버퍼 크기 수준)
+ * - 길이는 MultipartFile 크기를 그대로 알려 줘서 파트 헤더 계산을 위해 스트림을 미리 읽지 않게 한다
+ */
+class MultipartUploadResource extends AbstractResource {
+
+    private final MultipartFile file;
+    private final String filename;
+
+    MultipartUploadResource(MultipartFile file, String filename) {
+        this.file = file;
+        this.filename = filename;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return file.getInputStream();
+    }
+
+    @Override
+    public long contentLength() {
+        return file.getSize();
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "multipart upload [" + file.getOriginalFilename() + "]";
+    }
+}
@@ -0,0 +1,260 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * OCR 호출용 서킷 브레이커 + 벌크헤드
+ * - CLOSED: 최근 slidingWindowSize건 중 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 백엔드를 호출하지 않고 즉시 OcrUnavailableException
+ * - HALF_OPEN: halfOpenPermits건만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * - 벌크헤드: 동시 호출이 maxConcurrentCalls를 넘으면 bulkheadMaxWait만 기다린 뒤 거절
+ * - 4xx(요청 자체 문제)는 백엔드 장애가 아니므로 성공으로 센다
+ * - 상태가 바뀔 때마다 세대(generation)를 올리고, 호출 결과는 통과 시점의 세대와 같을 때만 반영한다
+ *   (CLOSED에서 들어온 느린 호출이 HALF_OPEN 중에 끝나도 시험 호출로 세지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ocr", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class OcrCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final OcrProperties.Resilience config;
+    private final LongSupplier nanoClock;
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private Counter rejectedOpen;
+    private Counter rejectedBulkhead;
+
+    @Autowired
+    public OcrCircuitBreaker(OcrProperties ocrProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(ocrProperties.resilience(), System::nanoTime);
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    public OcrCircuitBreaker(OcrProperties.Resilience config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.bulkhead = new Semaphore(config.maxConcurrentCalls());
+        this.window = new boolean[config.slidingWindowSize()];
+    }
+
+    /**
+     * 서킷/벌크헤드를 통과하면 action 실행, 아니면 즉시 OcrUnavailableException
+     */
+    public <T> T execute(Callable<T> action) {
+        Permit permit = tryAcquirePermission();
+        if (permit == null) {
+            if (rejectedOpen != null) {
+                rejectedOpen.increment();
+            }
+            throw new OcrUnavailableException("OCR circuit is open");
+        }
+
+        boolean admitted = false;
+        try {
+            admitted = bulkhead.tryAcquire(config.bulkheadMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!admitted) {
+            releasePermission(permit);
+            if (rejectedBulkhead != null) {
+                rejectedBulkhead.increment();
+            }
+            throw new OcrUnavailableException("Too many concurrent OCR calls");
+        }
+
+        try {
+            T result = action.call();
+            onSuccess(permit);
+            return result;
+        } catch (HttpClientErrorException e) {
+            onSuccess(permit);
+            throw e;
+        } catch (RuntimeException e) {
+            onFailure(permit, e);
+            throw e;
+        } catch (Exception e) {
+            onFailure(permit, e);
+            throw new IllegalStateException("Clova OCR 호출 실패", e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State state() {
+        // OPEN 시간이 지났으면 조회 시점에도 HALF_OPEN으로 보이도록
+        if (state == State.OPEN && openElapsed()) {
+            toHalfOpen();
+        }
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return windowCount == 0 ? 0.0 : windowFailures * 100.0 / windowCount;
+    }
+
+    public int availableConcurrentCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    // 통과하면 그 시점의 세대, 거절이면 null
+    private synchronized Permit tryAcquirePermission() {
+        switch (state()) {
+            case CLOSED:
+                return new Permit(generation);
+            case HALF_OPEN:
+                if (halfOpenInFlight + halfOpenSuccesses < config.halfOpenPermits()) {
+                    halfOpenInFlight++;
+                    return new Permit(generation);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    // 지금 세대에서 받은 허가인지 - 그 사이 상태가 바뀌었으면 결과를 반영하지 않는다
+    private boolean isCurrent(Permit permit) {
+        return permit.generation() == generation;
+    }
+
+    private synchronized void releasePermission(Permit permit) {
+        if (isCurrent(permit) && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private synchronized void onSuccess(Permit permit) {
+        if (!isCurrent(permit)) {
+            return; // 이전 세대(다른 상태)에서 들어온 호출
+        }
+        if (state == State.HALF_OPEN) {
+            releasePermission(permit);
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= config.halfOpenPermits()) {
+                log.info("[OCR] Circuit closed after {} successful probes", halfOpenSuccesses);
+                toClosed();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    private synchronized void onFailure(Permit permit, Exception cause) {
+        if (!isCurrent(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            log.warn("[OCR] Probe failed, circuit re-opened: {}", cause.toString());
+            toOpen();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= config.minimumCalls() && failureRate() >= config.failureRateThreshold()) {
+                log.warn("[OCR] Circuit opened: failureRate={}% over {} calls, last error: {}",
+                        failureRate(), windowCount, cause.toString());
+                toOpen();
+            }
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void resetWindow() {
+        windowNext = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void toClosed() {
+        state = State.CLOSED;
+        generation++;
+        resetWindow();
+    }
+
+    private void toOpen() {
+        state = State.OPEN;
+        generation++;
+        openedAtNanos = nanoClock.getAsLong();
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+    }
+
+    private void toHalfOpen() {
+        log.info("[OCR] Circuit half-open, allowing {} probe calls", config.halfOpenPermits());
+        state = State.HALF_OPEN;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+    }
+
+    private boolean openElapsed() {
+        return nanoClock.getAsLong() - openedAtNanos >= config.openDuration().toNanos();
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("kumdori.ocr.circuit.state", this, b -> switch (b.state()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .description("OCR circuit breaker state (0=closed, 1=half-open, 2=open)")
+                .register(registry);
+        Gauge.builder("kumdori.ocr.circuit.failure.rate", this, OcrCircuitBreaker::failureRate)
+                .baseUnit("percent")
+                .register(registry);
+        Gauge.builder("kumdori.ocr.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(registry);
+        rejectedOpen = Counter.builder("kumdori.ocr.rejected").tag("reason", "circuit_open").register(registry);
+        rejectedBulkhead = Counter.builder("kumdori.ocr.rejected").tag("reason", "bulkhead_full").register(registry);
+    }
+
+    // 통과 시점의 세대
+    private record Permit(long generation) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health 의 "ocr" 항목 - 서킷 상태 보고
+ * - OCR 장애가 앱 전체 헬스(배포 헬스체크)를 내리지 않도록 상태는 항상 UP, 서킷 정보는 details로만 노출
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ocr", name = "enabled", havingValue = "true", matchIfMissing = false)
+public class OcrHealthIndicator implements HealthIndicator {
+
+    private final OcrCircuitBreaker circuitBreaker;
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("circuit", circuitBreaker.state().name())
+                .withDetail("failureRate", circuitBreaker.failureRate())
+                .withDetail("availableConcurrentCalls", circuitBreaker.availableConcurrentCalls())
+                .build();
+    }
+}
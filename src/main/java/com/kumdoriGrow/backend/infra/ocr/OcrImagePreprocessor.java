@@ -0,0 +1,191 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 전송 전 이미지 전처리 (javax.imageio만 사용)
+ * - 긴 변이 maxLongEdge를 넘으면 비율을 유지해 축소하고, 흑백 변환 후 jpegQuality로 JPEG 재인코딩한다
+ * - 디코딩 단계에서 먼저 정수배 서브샘플링을 걸어 원본 해상도 전체를 메모리에 펼치지 않는다
+ * - 재인코딩하면 EXIF가 빠지므로, JPEG의 EXIF Orientation(2~8)은 축소할 때 픽셀에 직접 반영한다 (세로 촬영 사진이 눕지 않게)
+ * - 읽을 수 없는 형식이거나 결과가 원본보다 크면 원본을 그대로 보낸다
+ * - 메트릭: kumdori.ocr.preprocess (처리 시간, outcome 태그), kumdori.ocr.preprocess.bytes (stage=in/out)
+ */
+@Slf4j
+@Component
+public class OcrImagePreprocessor {
+
+    private static final String JPEG = "image/jpeg";
+
+    private final OcrProperties.Preprocess config;
+
+    private Timer processedTimer;
+    private Timer skippedTimer;
+    private DistributionSummary bytesIn;
+    private DistributionSummary bytesOut;
+
+    @Autowired
+    public OcrImagePreprocessor(OcrProperties ocrProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(ocrProperties.preprocess());
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    public OcrImagePreprocessor(OcrProperties.Preprocess config) {
+        this.config = config;
+    }
+
+    /**
+     * 전처리된 JPEG 업로드, 전처리하지 않는 경우 원본 그대로
+     */
+    public MultipartFile preprocess(MultipartFile file) {
+        if (!config.enabled()) {
+            return file;
+        }
+        long start = System.nanoTime();
+        MultipartFile result = file;
+        try {
+            byte[] encoded;
+            try (InputStream in = file.getInputStream()) {
+                encoded = encode(in);
+            }
+            if (encoded != null && encoded.length < file.getSize()) {
+                result = new PreprocessedImage(file, encoded, JPEG);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[OCR] Image preprocessing failed, sending original: {}", e.getMessage());
+        }
+        record(System.nanoTime() - start, file.getSize(), result);
+        return result;
+    }
+
+    /**
+     * 디코딩 → 축소/흑백 → JPEG 인코딩, 읽을 수 없는 형식이면 null
+     */
+    byte[] encode(InputStream in) throws IOException {
+        Decoded source = decode(in);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage target = scale(source.image(), source.orientation());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(config.jpegQuality());
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private Decoded decode(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, false);
+                int orientation = ExifOrientation.read(reader);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 목표 크기의 2배 이상일 때만 정수배로 건너뛰며 읽고, 나머지는 scale()에서 보간
+                int subsampling = Math.max(1, longEdge / (config.maxLongEdge() * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new Decoded(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 축소와 EXIF 방향 보정을 한 번의 그리기로 처리
+    private BufferedImage scale(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) config.maxLongEdge() / Math.max(width, height));
+        int scaledWidth = Math.max(1, (int) Math.round(width * ratio));
+        int scaledHeight = Math.max(1, (int) Math.round(height * ratio));
+        boolean swap = ExifOrientation.swapsAxes(orientation);
+        int targetWidth = swap ? scaledHeight : scaledWidth;
+        int targetHeight = swap ? scaledWidth : scaledHeight;
+        int type = config.grayscale() ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 PNG가 검게 나오지 않도록 흰 바탕 위에 그림
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.transform(ExifOrientation.transform(orientation, scaledWidth, scaledHeight));
+            g.drawImage(source, 0, 0, scaledWidth, scaledHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void record(long elapsedNanos, long originalSize, MultipartFile result) {
+        if (processedTimer == null) {
+            return;
+        }
+        boolean processed = result instanceof PreprocessedImage;
+        (processed ? processedTimer : skippedTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        bytesIn.record(originalSize);
+        bytesOut.record(result.getSize());
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        this.processedTimer = Timer.builder("kumdori.ocr.preprocess")
+                .description("Receipt image preprocessing time before OCR")
+                .tag("outcome", "processed")
+                .register(registry);
+        this.skippedTimer = Timer.builder("kumdori.ocr.preprocess")
+                .description("Receipt image preprocessing time before OCR")
+                .tag("outcome", "original")
+                .register(registry);
+        this.bytesIn = DistributionSummary.builder("kumdori.ocr.preprocess.bytes")
+                .baseUnit("bytes")
+                .tag("stage", "in")
+                .register(registry);
+        this.bytesOut = DistributionSummary.builder("kumdori.ocr.preprocess.bytes")
+                .baseUnit("bytes")
+                .tag("stage", "out")
+                .register(registry);
+    }
+
+    private record Decoded(BufferedImage image, int orientation) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kumdoriGrow.backend.config.OcrProperties;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지 내용(SHA-256) 기준 OCR 결과 캐시
+ * - 같은 사진을 다시 올리면 ClovaOcrClient를 호출하지 않고 이전 결과를 돌려준다
+ * - 메모리 계층: Caffeine (크기 상한, 최근/빈도 기반 교체) - 직렬화된 JSON을 보관하고 꺼낼 때마다 새 객체로 만든다
+ *   (호출한 쪽이 결과를 고쳐도 캐시된 값이 바뀌지 않음)
+ * - 디스크 계층(선택): ocr.cache.disk-dir 아래 {sha256}.json - 재기동 후에도 유지, ttl 지난 파일은 무시/삭제
+ * - 디스크 정리: disk-sweep-interval마다 만료 파일을 지우고, disk-max-entries/disk-max-bytes를 넘으면 오래된 파일부터 삭제
+ */
+@Slf4j
+@Component
+public class OcrResultCache {
+
+    private static final int HASH_BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final OcrProperties.Cache config;
+    private final Cache<String, byte[]> memory;
+    private final Path diskDir;
+
+    public OcrResultCache(OcrProperties ocrProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.config = ocrProperties.cache();
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(config.maxEntries())
+                .expireAfterWrite(config.ttl())
+                .recordStats()
+                .build();
+        this.diskDir = initDiskDir(config.diskDir());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, memory, "ocrResults"));
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    /**
+     * 업로드 스트림을 8KB씩 읽으며 SHA-256 계산 (이미지 전체를 힙에 올리지 않음)
+     */
+    public String hash(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream in = file.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 캐시된 결과의 새 사본
+     */
+    public Optional<OcrResult> get(String hash) {
+        byte[] json = memory.getIfPresent(hash);
+        if (json == null) {
+            json = readDisk(hash);
+            if (json == null) {
+                return Optional.empty();
+            }
+            memory.put(hash, json); // 메모리 계층으로 승격
+        }
+        try {
+            return Optional.of(om.readValue(json, OcrResult.class));
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to parse cached result {}", hash, e);
+            memory.invalidate(hash);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String hash, OcrResult result) {
+        byte[] json;
+        try {
+            json = om.writeValueAsBytes(result);
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to serialize result for {}", hash, e);
+            return;
+        }
+        memory.put(hash, json);
+        writeDisk(hash, json);
+    }
+
+    /**
+     * 디스크 계층 정리 - 만료 파일(쓰다 남은 임시 파일 포함) 삭제 후 상한을 넘는 만큼 오래된 파일부터 삭제
+     *
+     * @return 삭제한 파일 수
+     */
+    @Scheduled(fixedDelayString = "${ocr.cache.disk-sweep-interval:10m}")
+    public int sweepDisk() {
+        if (diskDir == null) {
+            return 0;
+        }
+        Instant expiredBefore = Instant.now().minus(config.ttl());
+        List<DiskEntry> entries = new ArrayList<>();
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(diskDir)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                boolean json = name.endsWith(".json");
+                if (!json && !name.endsWith(".tmp")) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                Instant modifiedAt = attributes.lastModifiedTime().toInstant();
+                if (modifiedAt.isBefore(expiredBefore)) {
+                    removed += delete(file);
+                } else if (json) {
+                    entries.add(new DiskEntry(file, modifiedAt, attributes.size()));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to sweep disk cache {}", diskDir, e);
+            return removed;
+        }
+
+        int count = entries.size();
+        long bytes = entries.stream().mapToLong(DiskEntry::size).sum();
+        long maxBytes = config.diskMaxBytes().toBytes();
+        entries.sort(Comparator.comparing(DiskEntry::modifiedAt));
+        for (DiskEntry entry : entries) {
+            if (count <= config.diskMaxEntries() && bytes <= maxBytes) {
+                break;
+            }
+            removed += delete(entry.file());
+            count--;
+            bytes -= entry.size();
+        }
+        if (removed > 0) {
+            log.info("[OCR] Disk cache swept: removed={}, remaining={} files / {} bytes", removed, count, bytes);
+        }
+        return removed;
+    }
+
+    private static int delete(Path file) {
+        try {
+            return Files.deleteIfExists(file) ? 1 : 0;
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to delete cached result {}", file, e);
+            return 0;
+        }
+    }
+
+    private byte[] readDisk(String hash) {
+        if (diskDir == null) {
+            return null;
+        }
+        Path file = diskDir.resolve(hash + ".json");
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            Instant writtenAt = Files.getLastModifiedTime(file).toInstant();
+            if (writtenAt.plus(config.ttl()).isBefore(Instant.now())) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to read cached result {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeDisk(String hash, byte[] json) {
+        if (diskDir == null) {
+            return;
+        }
+        try {
+            // 임시 파일에 쓰고 원자적으로 교체 - 동시에 읽는 쪽이 반쯤 쓴 파일을 보지 않도록
+            Path tmp = Files.createTempFile(diskDir, hash, ".tmp");
+            Files.write(tmp, json);
+            Files.move(tmp, diskDir.resolve(hash + ".json"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[OCR] Failed to write cached result for {}", hash, e);
+        }
+    }
+
+    private static Path initDiskDir(String dir) {
+        if (dir == null || dir.isBlank()) {
+            return null;
+        }
+        try {
+            return Files.createDirectories(Path.of(dir));
+        } catch (IOException e) {
+            log.warn("[OCR] Disk cache disabled, cannot create {}", dir, e);
+            return null;
+        }
+    }
+
+    private record DiskEntry(Path file, Instant modifiedAt, long size) {
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+/**
+ * OCR 백엔드를 호출하지 않고 즉시 거절함 (서킷 OPEN 또는 벌크헤드 포화)
+ */
+public class OcrUnavailableException extends RuntimeException {
+
+    public OcrUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * 전처리(축소/재인코딩)된 업로드 - 원본 메타데이터는 유지하고 내용과 형식만 바꾼다
+ */
+final class PreprocessedImage implements MultipartFile {
+
+    private final MultipartFile original;
+    private final byte[] content;
+    private final String contentType;
+
+    PreprocessedImage(MultipartFile original, byte[] content, String contentType) {
+        this.original = original;
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getName() {
+        return original.getName();
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return original.getOriginalFilename();
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), content);
+    }
+}
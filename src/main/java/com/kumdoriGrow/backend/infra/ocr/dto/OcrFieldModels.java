@@ -21,5 +21,22 @@ public class OcrFieldModels {
     public static class OcrField {
         private String inferText;
         private Double inferConfidence;
+        private BoundingPoly boundingPoly; // 글자 영역 (이미지 픽셀 좌표)
+        private Boolean lineBreak;         // 이 필드 뒤에서 줄이 바뀌는지
+    }
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class BoundingPoly {
+        private List<Vertex> vertices; // 좌상단부터 시계 방향 4점
+    }
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Vertex {
+        private Double x;
+        private Double y;
     }
 }
@@ -1,13 +1,18 @@
 package com.kumdoriGrow.backend;
 
 import com.kumdoriGrow.backend.config.OcrProperties;
+import com.kumdoriGrow.backend.config.ParseJobProperties;
+import com.kumdoriGrow.backend.config.ReceiptKeywordProperties;
+import com.kumdoriGrow.backend.config.RewardOutboxProperties;
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
 import com.kumdoriGrow.backend.config.XpProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication(scanBasePackages = "com.kumdoriGrow.backend")
-@EnableConfigurationProperties({OcrProperties.class, XpProperties.class})
+@EnableConfigurationProperties({OcrProperties.class, XpProperties.class, StoreMatchingProperties.class,
+		RewardOutboxProperties.class, ParseJobProperties.class, ReceiptKeywordProperties.class})
 public class kumdoriGrowBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,23 @@
+package com.kumdoriGrow.backend.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (Slice 형태 - 전체 건수 count 쿼리 없음)
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,  // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+        boolean hasNext
+) {
+    /**
+     * size + 1건을 조회한 결과로 응답 생성 - 초과분이 있으면 다음 페이지가 있다
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
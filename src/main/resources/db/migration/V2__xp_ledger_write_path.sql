@@ -0,0 +1,28 @@
+-- XP_LEDGER: 적립 멱등 키 + 사용자별 커서 조회 인덱스
+ALTER TABLE xp_ledger
+    ADD COLUMN idempotency_key VARCHAR(100) NULL AFTER reason;
+
+-- 기존 영수증 적립을 원장으로 백필 (영수증당 1건)
+INSERT INTO xp_ledger (user_id, receipt_id, delta_exp, reason, idempotency_key, created_at)
+SELECT r.user_id, r.id, COALESCE(r.exp_awarded, 0), 'RECEIPT', CONCAT('receipt:', r.id), r.recognized_at
+FROM receipts r
+WHERE NOT EXISTS (SELECT 1 FROM xp_ledger x WHERE x.receipt_id = r.id)
+ORDER BY r.id;
+
+UPDATE xp_ledger SET idempotency_key = CONCAT('legacy:', id) WHERE idempotency_key IS NULL;
+
+ALTER TABLE xp_ledger
+    MODIFY idempotency_key VARCHAR(100) NOT NULL,
+    ADD CONSTRAINT uk_xp_ledger_idempotency UNIQUE (idempotency_key);
+CREATE INDEX idx_xp_ledger_user_id ON xp_ledger(user_id, id);
+
+-- USER_EXPERIENCE: 스냅샷 커서 (이 id까지의 원장이 total_exp에 반영됨)
+ALTER TABLE user_experience
+    ADD COLUMN last_ledger_id BIGINT NOT NULL DEFAULT 0 AFTER level;
+
+INSERT INTO user_experience (user_id, total_exp, level, last_ledger_id)
+SELECT x.user_id, SUM(x.delta_exp), 1, MAX(x.id)
+FROM xp_ledger x
+GROUP BY x.user_id
+ON DUPLICATE KEY UPDATE total_exp = VALUES(total_exp), last_ledger_id = VALUES(last_ledger_id);
+-- level은 다음 재구성 배치(UserExperienceRebuildJob)에서 ExpCalculator 기준으로 맞춘다
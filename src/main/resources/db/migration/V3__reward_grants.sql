@@ -0,0 +1,28 @@
+-- REWARD_GRANTS: 포인트 박스 지급 기록 (레벨당 1회)
+CREATE TABLE IF NOT EXISTS reward_grants (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    level INT NULL, -- 수동 개봉은 NULL (유니크 제약 대상 아님)
+    points INT NOT NULL,
+    roll DOUBLE NOT NULL,
+    snapshot JSON NULL,
+    granted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_reward_grants_user_level UNIQUE (user_id, level),
+    CONSTRAINT fk_reward_grants_user FOREIGN KEY (user_id) REFERENCES users(id)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+CREATE INDEX idx_reward_grants_user_time ON reward_grants(user_id, granted_at);
+
+-- 기존 receipts(status='REWARD') 보상 이관 - 같은 레벨 중복 지급분은 가장 먼저 지급된 것만 남긴다
+INSERT IGNORE INTO reward_grants (user_id, level, points, roll, snapshot, granted_at)
+SELECT r.user_id,
+       CAST(JSON_UNQUOTE(JSON_EXTRACT(r.ocr_raw, '$.level')) AS UNSIGNED),
+       r.total_amount,
+       COALESCE(CAST(JSON_UNQUOTE(JSON_EXTRACT(r.ocr_raw, '$.roll')) AS DOUBLE), 0),
+       r.ocr_raw,
+       COALESCE(r.recognized_at, r.created_at)
+FROM receipts r
+WHERE r.status = 'REWARD'
+ORDER BY r.id;
+
+DELETE x FROM xp_ledger x JOIN receipts r ON r.id = x.receipt_id WHERE r.status = 'REWARD';
+DELETE FROM receipts WHERE status = 'REWARD';
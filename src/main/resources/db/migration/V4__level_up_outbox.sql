@@ -0,0 +1,15 @@
+-- LEVEL_UP_OUTBOX: 레벨업 보상 처리 대기열 (영수증 등록과 같은 트랜잭션에서 INSERT)
+CREATE TABLE IF NOT EXISTS level_up_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    old_level INT NOT NULL,
+    new_level INT NOT NULL,
+    receipt_id BIGINT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP NULL
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+CREATE INDEX idx_level_up_outbox_due ON level_up_outbox(status, next_attempt_at);
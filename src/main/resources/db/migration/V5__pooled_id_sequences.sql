@@ -0,0 +1,18 @@
+-- 풀링 시퀀스(allocationSize = 50)용 채번 테이블 - MySQL에는 SEQUENCE가 없어 Hibernate가 테이블로 에뮬레이션한다
+-- pooled 옵티마이저는 읽은 값 v에 대해 (v - 49 .. v]를 쓰므로 기존 최대 id + 50 으로 시작해야 충돌하지 않는다
+-- id 컬럼의 AUTO_INCREMENT는 그대로 두며 (명시한 id가 우선), 애플리케이션은 더 이상 사용하지 않는다
+
+CREATE TABLE IF NOT EXISTS receipts_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO receipts_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM receipts;
+
+CREATE TABLE IF NOT EXISTS stores_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO stores_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM stores;
+
+CREATE TABLE IF NOT EXISTS store_aliases_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO store_aliases_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM store_aliases;
+
+CREATE TABLE IF NOT EXISTS reward_grants_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO reward_grants_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM reward_grants;
+
+CREATE TABLE IF NOT EXISTS level_up_outbox_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO level_up_outbox_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM level_up_outbox;
@@ -0,0 +1,130 @@
+package com.kumdoriGrow.backend.domain.category;
+
+import com.kumdoriGrow.backend.config.CacheConfig;
+import com.kumdoriGrow.backend.config.XpProperties;
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리 가중치 캐시 - 반복 조회는 DB 1회, 없는 코드도 캐시, 변경은 커밋 후에만 반영
+ * - 가중치 우선순위: DB > XpProperties(kumdori.xp.weights) > ExpCalculator 기본값
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // AFTER_COMMIT 무효화가 실제 커밋에서 돌도록
+class CategoryWeightProviderTest {
+
+    @TestConfiguration
+    @Import({CacheConfig.class, CategoryWeightProvider.class, CategoryChangeListener.class, ExpCalculator.class})
+    static class Config {
+
+        // @DataJpaTest는 spring.cache.type=none이라 운영과 같은 Caffeine 캐시를 직접 등록
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CategoryWeightProvider.CACHE_NAME);
+        }
+
+        @Bean
+        XpProperties xpProperties() {
+            XpProperties properties = new XpProperties();
+            properties.setWeights(Map.of(
+                    "MARKET", new BigDecimal("2.5"),
+                    "FRANCHISE", new BigDecimal("0.6")));
+            return properties;
+        }
+    }
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ExpCalculator expCalculator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.save(new Category("MARKET", "전통시장", 3.0));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAll();
+        cacheManager.getCache(CategoryWeightProvider.CACHE_NAME).clear();
+    }
+
+    @Test
+    void calcExp_shouldReadCategoryOnce_forRepeatedCalls() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(expCalculator.calcExp(10000, "MARKET")).isEqualTo(300);
+        }
+        // 공백/소문자도 같은 키로 정규화된다
+        assertThat(expCalculator.calcExp(10000, " market ")).isEqualTo(300);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void calcExp_shouldCacheMissingCategory_andFallBackInOrder() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(expCalculator.calcExp(10000, "MARKET")).isEqualTo(300);    // DB 3.0 (설정 2.5보다 우선)
+            assertThat(expCalculator.calcExp(10000, "FRANCHISE")).isEqualTo(60);  // 설정 0.6 (기본값 1.0보다 우선)
+            assertThat(expCalculator.calcExp(10000, "LOCAL")).isEqualTo(150);     // 기본값 1.5
+            assertThat(expCalculator.calcExp(10000, "ETC")).isEqualTo(100);       // 어디에도 없으면 1.0
+        }
+
+        // DB에 없는 코드도 빈 값으로 캐시되어 코드당 한 번만 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void calcExp_shouldReadNewWeight_onlyAfterChangeCommits() {
+        assertThat(expCalculator.calcExp(10000, "MARKET")).isEqualTo(300);
+        assertThat(expCalculator.calcExp(10000, "LOCAL")).isEqualTo(150);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category market = categoryRepository.findById("MARKET").orElseThrow();
+            market.setWeight(4.0);
+            categoryRepository.saveAndFlush(market);
+
+            // 커밋 전에는 이전 가중치가 그대로 캐시에 남아 있다
+            assertThat(expCalculator.calcExp(10000, "MARKET")).isEqualTo(300);
+        });
+        assertThat(expCalculator.calcExp(10000, "MARKET")).isEqualTo(400);
+
+        // 새로 추가된 카테고리는 캐시된 빈 값 대신 DB 가중치로 바뀐다
+        categoryRepository.save(new Category("LOCAL", "지역상점", 2.2));
+        assertThat(expCalculator.calcExp(10000, "LOCAL")).isEqualTo(220);
+    }
+}
@@ -1,7 +1,7 @@
 package com.kumdoriGrow.backend.domain.receipt;
 
 import com.kumdoriGrow.backend.config.XpProperties;
-import com.kumdoriGrow.backend.domain.category.CategoryRepository;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,13 +17,13 @@ class ExpCalculatorTest {
     private XpProperties xpProperties;
     
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryWeightProvider categoryWeightProvider;
     
     private ExpCalculator expCalculator;
     
     @BeforeEach
     void setUp() {
-        expCalculator = new ExpCalculator(xpProperties, categoryRepository);
+        expCalculator = new ExpCalculator(xpProperties, categoryWeightProvider);
     }
     
     @Test
@@ -0,0 +1,76 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeywordAutomatonTest {
+
+    @Test
+    void shouldReportEveryKeywordEndingAtEachPosition_includingOverlaps() {
+        KeywordAutomaton<String> automaton = KeywordAutomaton.<String>builder()
+                .add("카드 결제", "card")
+                .add("신용카드 결제", "credit")
+                .add("결제", "pay")
+                .build();
+
+        List<String> hits = scan(automaton, "신용카드결제 5,000");
+
+        assertThat(hits).containsExactlyInAnyOrder("card@6", "credit@6", "pay@6");
+    }
+
+    @Test
+    void spaceInKeywordShouldMatchZeroOrMoreWhitespace() {
+        KeywordAutomaton<String> automaton = KeywordAutomaton.<String>builder()
+                .add("총 금액", "total")
+                .build();
+
+        assertThat(scan(automaton, "총금액")).containsExactly("total@3");
+        assertThat(scan(automaton, "총 \t\n 금액")).containsExactly("total@7");
+        assertThat(scan(automaton, "총-금액")).isEmpty();
+        assertThat(scan(automaton, "총 액 금액")).isEmpty();
+    }
+
+    @Test
+    void keywordWithoutSpaceShouldNotMatchAcrossWhitespace() {
+        KeywordAutomaton<String> automaton = KeywordAutomaton.<String>builder()
+                .add("합계", "total")
+                .build();
+
+        assertThat(scan(automaton, "합 계")).isEmpty();
+        assertThat(scan(automaton, "소계합계합계")).containsExactly("total@4", "total@6");
+    }
+
+    @Test
+    void containsShouldOnlyLookAtRequestedPayload() {
+        KeywordAutomaton<String> automaton = KeywordAutomaton.<String>builder()
+                .addAll(List.of("사업자", "TEL"), "stop")
+                .add("합계", "total")
+                .build();
+
+        assertThat(automaton.contains("대표자 홍길동 TEL 042", "stop")).isTrue();
+        assertThat(automaton.contains("합계 12,000", "stop")).isFalse();
+        assertThat(automaton.contains("합계 12,000", "total")).isTrue();
+    }
+
+    @Test
+    void shouldRejectBlankKeyword() {
+        assertThatThrownBy(() -> KeywordAutomaton.<String>builder().add("  ", "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // payload@끝 위치(exclusive)
+    private static List<String> scan(KeywordAutomaton<String> automaton, String text) {
+        List<String> hits = new ArrayList<>();
+        int state = KeywordAutomaton.ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = automaton.next(state, text.charAt(i));
+            for (String payload : automaton.matchesAt(state)) hits.add(payload + "@" + (i + 1));
+        }
+        return hits;
+    }
+}
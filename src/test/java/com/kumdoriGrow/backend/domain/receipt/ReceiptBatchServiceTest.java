@@ -0,0 +1,114 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptBatchRes;
+import com.kumdoriGrow.backend.api.receipt.dto.CreateReceiptReq;
+import com.kumdoriGrow.backend.config.XpProperties;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
+import com.kumdoriGrow.backend.domain.store.StoreMatchResult;
+import com.kumdoriGrow.backend.domain.store.StoreResolver;
+import com.kumdoriGrow.backend.domain.user.User;
+import com.kumdoriGrow.backend.domain.user.UserRepository;
+import com.kumdoriGrow.backend.domain.xp.UserExperienceService;
+import com.kumdoriGrow.backend.domain.xp.XpLedger;
+import com.kumdoriGrow.backend.domain.xp.XpLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@RecordApplicationEvents
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({ReceiptBatchService.class, ReceiptClassifier.class, XpLedger.class, UserExperienceService.class, ExpCalculator.class})
+class ReceiptBatchServiceTest {
+
+    @MockitoBean
+    private XpProperties xpProperties;
+
+    @MockitoBean
+    private CategoryWeightProvider categoryWeightProvider;
+
+    @MockitoBean
+    private StoreResolver storeResolver;
+
+    @Autowired
+    private ReceiptBatchService receiptBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private XpLedgerRepository xpLedgerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void createAll_shouldInsertValidItemsAndReportFailuresInOrder() {
+        Long userId = userRepository.save(new User()).getId();
+        when(storeResolver.resolve(anyString())).thenReturn(StoreMatchResult.noMatch());
+
+        CreateReceiptBatchRes res = receiptBatchService.createAll(List.of(
+                item(userId, 6000L, "FRANCHISE", "스타벅스"),
+                item(987654L, 1000L, "LOCAL", null),       // 없는 사용자
+                item(userId, 5000L, "UNKNOWN", null),      // 잘못된 카테고리
+                item(userId, -1L, "LOCAL", null),          // 검증 실패
+                item(userId, 5000L, "FRANCHISE", "스타벅스")));
+
+        assertThat(res.requested()).isEqualTo(5);
+        assertThat(res.created()).isEqualTo(2);
+        assertThat(res.failed()).isEqualTo(3);
+        assertThat(res.results()).extracting(CreateReceiptBatchRes.Item::status)
+                .containsExactly("CREATED", "FAILED", "FAILED", "FAILED", "CREATED");
+        assertThat(res.results().get(1).errorStatus()).isEqualTo(404);
+        assertThat(res.results().get(2).errorStatus()).isEqualTo(400);
+        assertThat(res.results().get(3).error()).contains("totalAmount");
+
+        // 항목별 누적 경험치는 입력 순서대로 쌓인다 (60 → 110)
+        assertThat(res.results().get(0).receipt().totalExpAfter()).isEqualTo(60);
+        assertThat(res.results().get(4).receipt().totalExpAfter()).isEqualTo(110);
+        assertThat(res.results().get(4).receipt().levelAfter()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from receipts", Integer.class)).isEqualTo(2);
+        assertThat(xpLedgerRepository.count()).isEqualTo(2);
+
+        // 같은 OCR 텍스트는 배치 안에서 한 번만 매칭
+        verify(storeResolver, times(1)).resolve("스타벅스");
+    }
+
+    @Test
+    void createAll_shouldPublishOneLevelUpPerUser() {
+        Long userId = userRepository.save(new User()).getId();
+
+        receiptBatchService.createAll(List.of(
+                item(userId, 8000L, "FRANCHISE", null),
+                item(userId, 8000L, "FRANCHISE", null),
+                item(userId, 50000L, "FRANCHISE", null)));
+
+        List<LevelUpEvent> levelUps = events.stream(LevelUpEvent.class).toList();
+        assertThat(levelUps).hasSize(1);
+        assertThat(levelUps.get(0).oldLevel()).isEqualTo(1);
+        assertThat(levelUps.get(0).newLevel()).isEqualTo(3); // 660 exp
+    }
+
+    private static CreateReceiptReq item(Long userId, Long amount, String category, String ocrRaw) {
+        return new CreateReceiptReq(userId, "가게", amount, category, null, ocrRaw);
+    }
+}
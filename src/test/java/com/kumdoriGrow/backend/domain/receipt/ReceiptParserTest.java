@@ -0,0 +1,99 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.config.ReceiptKeywordProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptParserTest {
+
+    private final ReceiptParser parser = new ReceiptParser();
+    private final LegacyReceiptParser legacy = new LegacyReceiptParser();
+
+    @Test
+    void parse_shouldExtractStoreNameAndTotal_fromTypicalReceipt() {
+        String raw = """
+                스타벅스   대전대흥점
+                사업자번호 123-45-67890
+                대표자 홍길동 TEL 042-123-4567
+                아메리카노        2     9,000
+                카페라떼          1     5,000
+                합계 : ₩14,000
+                신용카드 결제     14,000
+                """;
+
+        ReceiptParser.Parsed parsed = parser.parse(raw);
+
+        assertThat(parsed.storeName()).isEqualTo("스타벅스 대전대흥점");
+        assertThat(parsed.totalPrice()).isEqualTo(14_000);
+    }
+
+    @Test
+    void parse_shouldFallBackToLabelAndLargestTailAmount() {
+        String raw = """
+                영수증
+                상호: 대전중앙시장 국밥집 **
+                국밥 2 16,000
+                음료 1 2,000
+                """;
+
+        ReceiptParser.Parsed parsed = parser.parse(raw);
+
+        assertThat(parsed.storeName()).isEqualTo("대전중앙시장 국밥집");
+        assertThat(parsed.totalPrice()).isEqualTo(16_000);
+    }
+
+    @Test
+    void parse_shouldUseConfiguredKeywords() {
+        ReceiptParser custom = new ReceiptParser(new ReceiptKeywordProperties(
+                List.of("사업자"), List.of("받을 금액"), List.of("점포명")));
+        String raw = """
+                사업자 123-45-67890
+                점포명 : 대흥동 분식
+                떡볶이 2 8,000
+                받을금액 8,000
+                """;
+
+        ReceiptParser.Parsed parsed = custom.parse(raw);
+
+        assertThat(parsed.storeName()).isEqualTo("대흥동 분식");
+        assertThat(parsed.totalPrice()).isEqualTo(8_000);
+        assertThat(parser.parse(raw).storeName()).isNull(); // 기본 사전에는 없는 라벨
+    }
+
+    @Test
+    void parse_shouldReturnEmpty_forBlankText() {
+        assertThat(parser.parse("  \n ")).isEqualTo(new ReceiptParser.Parsed(null, null));
+        assertThat(parser.extractStoreName(null)).isNull();
+        assertThat(parser.extractTotalPrice(null)).isNull();
+    }
+
+    @Test
+    void parse_shouldMatchLegacyRegexParser_onRandomizedText() {
+        String[] tokens = {
+                "합계", "총액", "총 금액", "결제금액", "결제 금액", "신용카드 결제", "카드결제", "현금 결제", "소계",
+                "상호", "가맹점명", "매장명", "사업자", "대표자", "TEL", "영수증", "주소",
+                "스타벅스", "대흥점", "국밥", "\u1112\u1161", "한", "\u200B", "\uFEFF",
+                "12,300", "1,234,567", "1234,567", "99999999999,000", "0", "7", ",", ",,", "4,70", "₩",
+                ":", "-", "*", "|", "(", ".", " ", "  ", "\t", "\u3000",
+                "\n", "\n\n", "\r\n", "\r", "\u000B", "\f", "\u0085", "\u2028", "\u2029"
+        };
+        Random random = new Random(20250820L);
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(60);
+            for (int k = 0; k < length; k++) {
+                sb.append(tokens[random.nextInt(tokens.length)]);
+            }
+            String raw = sb.toString();
+
+            ReceiptParser.Parsed parsed = parser.parse(raw);
+
+            assertThat(parsed.storeName()).as("store name of %s", raw).isEqualTo(legacy.extractStoreName(raw));
+            assertThat(parsed.totalPrice()).as("total of %s", raw).isEqualTo(legacy.extractTotalPrice(raw));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.support.Cursor;
+import com.kumdoriGrow.backend.support.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ReceiptRepositoryKeysetTest {
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Test
+    void pagesShouldVisitEveryReceiptOnceInOrder_evenWithTiedTimestamps() {
+        Instant base = Instant.parse("2025-08-20T12:00:00Z");
+        List<Receipt> saved = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // 2건씩 같은 시각 - id로 순서를 가려야 한다
+            saved.add(receipt(1L, base.plusSeconds(i / 2)));
+        }
+        receipt(2L, base); // 다른 사용자
+        receiptRepository.flush();
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Receipt::getCreatedAt).thenComparing(Receipt::getId).reversed())
+                .map(Receipt::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Cursor after = Cursor.decode(cursor);
+            List<ReceiptSummary> fetched = after == null
+                    ? receiptRepository.findFirstSummaries(1L, Limit.of(4))
+                    : receiptRepository.findSummariesAfter(1L, after.at(), after.id(), Limit.of(4));
+            CursorPage<ReceiptSummary> page = CursorPage.of(fetched, 3, r -> new Cursor(r.createdAt(), r.id()), r -> r);
+            page.items().forEach(r -> visited.add(r.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void summaryPageShouldCarryDisplayColumnsOnly() {
+        Receipt r = receipt(1L, Instant.parse("2025-08-20T12:00:00Z"));
+        r.setOcrRaw("{\"images\":[]}");
+        receiptRepository.flush();
+
+        ReceiptSummary summary = receiptRepository.findSummariesByUserId(1L, PageRequest.of(0, 10)).getContent().get(0);
+
+        assertThat(summary.id()).isEqualTo(r.getId());
+        assertThat(summary.storeName()).isEqualTo("가게");
+        assertThat(summary.totalAmount()).isEqualTo(1000L);
+        assertThat(summary.expAwarded()).isEqualTo(15);
+    }
+
+    @Test
+    void cursorShouldRoundTrip() {
+        Cursor cursor = new Cursor(Instant.parse("2025-08-20T12:00:00.123456Z"), 42L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(Cursor.decode(null)).isNull();
+    }
+
+    private Receipt receipt(Long userId, Instant createdAt) {
+        Receipt r = new Receipt();
+        r.setUserId(userId);
+        r.setStoreName("가게");
+        r.setTotalAmount(1000L);
+        r.setCategoryCode("LOCAL");
+        r.setExpAwarded(15);
+        r.setCreatedAt(createdAt);
+        return receiptRepository.save(r);
+    }
+}
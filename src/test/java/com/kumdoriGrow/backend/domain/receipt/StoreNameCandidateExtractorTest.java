@@ -0,0 +1,92 @@
+package com.kumdoriGrow.backend.domain.receipt;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernelType;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrFieldModels;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreNameCandidateExtractorTest {
+
+    private final StoreNameCandidateExtractor extractor = new StoreNameCandidateExtractor();
+
+    @Test
+    void extract_shouldRankTopLargeConfidentLinesFirst() {
+        OcrResult result = result(
+                field("[고객용]", 10, 20, 0.99, true),            // 맨 위지만 글자가 작음
+                field("스타벅스", 40, 90, 0.97, false),            // 큰 글씨 가게명 (두 필드가 한 줄)
+                field("대전대흥점", 42, 88, 0.95, true),
+                field("사업자번호 123-45-67890", 100, 115, 0.99, true),
+                field("아메리카노", 300, 315, 0.60, true),
+                field("14,000", 600, 640, 0.99, true));           // 글씨는 크지만 글자가 없음
+
+        assertThat(extractor.extract(result)).containsExactly("스타벅스 대전대흥점", "[고객용]", "사업자번호 123-45-67890");
+    }
+
+    @Test
+    void extract_shouldGroupByVerticalOverlap_whenLineBreakMissing() {
+        OcrResult result = result(
+                field("대전중앙시장", 10, 50, 0.9, null),
+                field("국밥집", 12, 48, 0.9, null),
+                field("국밥", 100, 115, 0.9, null));
+
+        assertThat(extractor.extract(result)).containsExactly("대전중앙시장 국밥집", "국밥");
+    }
+
+    @Test
+    void extract_shouldFallBackToReadingOrder_withoutGeometry() {
+        OcrResult result = result(
+                noBox("동네카페", true),
+                noBox("2", true),
+                noBox("아메리카노", true),
+                noBox("카페라떼", true));
+
+        StoreNameCandidateExtractor top2 = new StoreNameCandidateExtractor(
+                new StoreMatchingProperties(EditDistanceKernelType.MYERS, false, 2, null));
+
+        assertThat(top2.extract(result)).containsExactly("동네카페", "아메리카노");
+    }
+
+    @Test
+    void extract_shouldReturnEmpty_forMissingFields() {
+        assertThat(extractor.extract(null)).isEmpty();
+        assertThat(extractor.extract(new OcrResult())).isEmpty();
+        assertThat(extractor.extract(result(noBox("  ", true)))).isEmpty();
+    }
+
+    private static OcrFieldModels.OcrField field(String text, double top, double bottom, double confidence, Boolean lineBreak) {
+        OcrFieldModels.OcrField field = noBox(text, lineBreak);
+        field.setInferConfidence(confidence);
+        OcrFieldModels.BoundingPoly poly = new OcrFieldModels.BoundingPoly();
+        poly.setVertices(List.of(vertex(0, top), vertex(100, top), vertex(100, bottom), vertex(0, bottom)));
+        field.setBoundingPoly(poly);
+        return field;
+    }
+
+    private static OcrFieldModels.OcrField noBox(String text, Boolean lineBreak) {
+        OcrFieldModels.OcrField field = new OcrFieldModels.OcrField();
+        field.setInferText(text);
+        field.setLineBreak(lineBreak);
+        return field;
+    }
+
+    private static OcrFieldModels.Vertex vertex(double x, double y) {
+        OcrFieldModels.Vertex v = new OcrFieldModels.Vertex();
+        v.setX(x);
+        v.setY(y);
+        return v;
+    }
+
+    private static OcrResult result(OcrFieldModels.OcrField... fields) {
+        OcrFieldModels.OcrImage image = new OcrFieldModels.OcrImage();
+        image.setFields(new ArrayList<>(List.of(fields)));
+        OcrResult result = new OcrResult();
+        result.setImages(List.of(image));
+        return result;
+    }
+}
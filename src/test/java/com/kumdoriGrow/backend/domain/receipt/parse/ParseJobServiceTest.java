@@ -0,0 +1,151 @@
+package com.kumdoriGrow.backend.domain.receipt.parse;
+
+import com.kumdoriGrow.backend.api.receipt.dto.ReceiptResponse;
+import com.kumdoriGrow.backend.config.ParseJobProperties;
+import com.kumdoriGrow.backend.domain.receipt.ReceiptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParseJobServiceTest {
+
+    @Mock
+    private ReceiptService receiptService;
+
+    private ParseJobService parseJobService;
+
+    private final MockMultipartFile image =
+            new MockMultipartFile("file", "receipt.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+    @AfterEach
+    void tearDown() {
+        if (parseJobService != null) {
+            parseJobService.shutdown();
+        }
+    }
+
+    @Test
+    void submit_shouldCompleteJobInBackground() throws Exception {
+        parseJobService = new ParseJobService(receiptService, new ParseJobProperties(2, 10, null, null));
+        ReceiptResponse response = new ReceiptResponse("스타벅스", 8500, "raw", 1.0);
+        when(receiptService.process(any())).thenReturn(response);
+
+        ParseJob job = parseJobService.submit(image);
+        ParseJob done = parseJobService.await(job, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        assertThat(done.getStatus()).isEqualTo(ParseJob.Status.DONE);
+        assertThat(done.getResult()).isEqualTo(response);
+        assertThat(parseJobService.find(job.getId())).containsSame(job);
+    }
+
+    @Test
+    void submit_shouldRecordHttpStatus_whenProcessingFails() throws Exception {
+        parseJobService = new ParseJobService(receiptService, new ParseJobProperties(2, 10, null, null));
+        when(receiptService.process(any()))
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "OCR service temporarily unavailable"));
+
+        ParseJob job = parseJobService.submit(image);
+        ParseJob done = parseJobService.await(job, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        assertThat(done.getStatus()).isEqualTo(ParseJob.Status.FAILED);
+        assertThat(done.getErrorStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void submit_shouldRejectWith429_whenTooManyPending() throws Exception {
+        parseJobService = new ParseJobService(receiptService, new ParseJobProperties(1, 1, null, null));
+        CountDownLatch release = new CountDownLatch(1);
+        when(receiptService.process(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ReceiptResponse("가게", 0, "raw", 1.0);
+        });
+
+        ParseJob first = parseJobService.submit(image);
+
+        assertThatThrownBy(() -> parseJobService.submit(image))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+
+        release.countDown();
+        parseJobService.await(first, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void find_shouldKeepResultForTtlAfterCompletion_notAfterSubmit() throws Exception {
+        AtomicLong nanos = new AtomicLong();
+        parseJobService = new ParseJobService(receiptService,
+                new ParseJobProperties(1, 10, Duration.ofMinutes(1), null), nanos::get);
+        CountDownLatch release = new CountDownLatch(1);
+        when(receiptService.process(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ReceiptResponse("가게", 0, "raw", 1.0);
+        });
+
+        ParseJob job = parseJobService.submit(image);
+
+        // 접수 후 ttl이 한참 지나도 끝나지 않은 작업은 남아 있다
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        assertThat(parseJobService.find(job.getId())).containsSame(job);
+
+        release.countDown();
+        parseJobService.await(job, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        assertThat(parseJobService.find(job.getId())).containsSame(job);
+
+        nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(parseJobService.find(job.getId())).containsSame(job);
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(parseJobService.find(job.getId())).isEmpty();
+    }
+
+    @Test
+    void submit_shouldRespond500_whenUploadCannotBeSpooled() throws Exception {
+        parseJobService = new ParseJobService(receiptService, new ParseJobProperties(1, 1, null, null));
+        MockMultipartFile upload = spy(image);
+        doThrow(new IOException("No space left on device")).when(upload).transferTo(any(File.class));
+
+        assertThatThrownBy(() -> parseJobService.submit(upload))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // 거절된 접수가 자리를 차지하지 않는다 (maxPending = 1)
+        when(receiptService.process(any())).thenReturn(new ReceiptResponse("가게", 0, "raw", 1.0));
+        ParseJob job = parseJobService.submit(image);
+        parseJobService.await(job, Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void await_shouldReturnCurrentState_whenWaitElapses() throws Exception {
+        parseJobService = new ParseJobService(receiptService, new ParseJobProperties(1, 10, null, null));
+        CountDownLatch release = new CountDownLatch(1);
+        when(receiptService.process(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ReceiptResponse("가게", 0, "raw", 1.0);
+        });
+
+        ParseJob job = parseJobService.submit(image);
+        ParseJob snapshot = parseJobService.await(job, Duration.ofMillis(50)).get(5, TimeUnit.SECONDS);
+
+        assertThat(snapshot.isFinished()).isFalse();
+        release.countDown();
+    }
+}
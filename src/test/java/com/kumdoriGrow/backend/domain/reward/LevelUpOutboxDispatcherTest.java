@@ -0,0 +1,132 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import com.kumdoriGrow.backend.config.RewardOutboxProperties;
+import com.kumdoriGrow.backend.domain.receipt.LevelUpEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LevelUpOutboxDispatcherTest {
+
+    @Mock
+    private LevelUpOutboxRepository outboxRepository;
+
+    @Mock
+    private RewardService rewardService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void dispatchDue_shouldOpenBoxAndMarkDone() throws Exception {
+        LevelUpOutboxEvent event = pendingEvent(1L, 5);
+        when(outboxRepository.findDue(eq(LevelUpOutboxEvent.Status.PENDING), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(event));
+        when(rewardService.openBoxIfEligible(999L, 5, null))
+                .thenReturn(Optional.of(new RewardService.BoxOpenResult(100, 5, 0.5)));
+
+        runOnce(dispatcher(3));
+
+        verify(outboxRepository).markDone(eq(1L), any(Instant.class));
+        verify(outboxRepository, never()).markFailedAttempt(any(), any(), any(), any());
+        assertThat(meterRegistry.get("kumdori.reward.outbox.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchDue_shouldNotOpenBox_insideDispatcherTransaction() throws Exception {
+        LevelUpOutboxEvent event = pendingEvent(5L, 5);
+        when(outboxRepository.findDue(eq(LevelUpOutboxEvent.Status.PENDING), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(event));
+        when(rewardService.openBoxIfEligible(999L, 5, null))
+                .thenReturn(Optional.of(new RewardService.BoxOpenResult(100, 5, 0.5)));
+
+        runOnce(dispatcher(3));
+
+        // 처리기 트랜잭션은 완료 표시 하나뿐이고, 박스 개봉이 끝난 뒤에 시작한다 (커넥션 두 개를 겹쳐 잡지 않음)
+        InOrder order = inOrder(rewardService, transactionManager, outboxRepository);
+        order.verify(rewardService).openBoxIfEligible(999L, 5, null);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(outboxRepository).markDone(eq(5L), any(Instant.class));
+        order.verify(transactionManager).commit(any());
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void dispatchDue_shouldScheduleRetry_whenRewardFails() throws Exception {
+        LevelUpOutboxEvent event = pendingEvent(2L, 10);
+        when(outboxRepository.findDue(eq(LevelUpOutboxEvent.Status.PENDING), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(event));
+        when(rewardService.openBoxIfEligible(999L, 10, null)).thenThrow(new IllegalStateException("db down"));
+
+        Instant before = Instant.now();
+        runOnce(dispatcher(3));
+
+        verify(outboxRepository).markFailedAttempt(eq(2L), eq(LevelUpOutboxEvent.Status.PENDING),
+                argThat(next -> !next.isBefore(before.plusSeconds(1))), contains("db down"));
+        verify(outboxRepository, never()).markDone(any(), any());
+    }
+
+    @Test
+    void dispatchDue_shouldMarkFailed_whenAttemptsExhausted() throws Exception {
+        LevelUpOutboxEvent event = pendingEvent(3L, 15);
+        when(outboxRepository.findDue(eq(LevelUpOutboxEvent.Status.PENDING), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(event));
+        when(rewardService.openBoxIfEligible(999L, 15, null)).thenThrow(new IllegalStateException("boom"));
+
+        runOnce(dispatcher(1));
+
+        verify(outboxRepository).markFailedAttempt(eq(3L), eq(LevelUpOutboxEvent.Status.FAILED), any(), any());
+        assertThat(meterRegistry.get("kumdori.reward.outbox.failures").tag("outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void dispatchDue_shouldMarkDone_whenRewardAlreadyGranted() throws Exception {
+        LevelUpOutboxEvent event = pendingEvent(4L, 20);
+        when(outboxRepository.findDue(eq(LevelUpOutboxEvent.Status.PENDING), any(Instant.class), any(Limit.class)))
+                .thenReturn(List.of(event));
+        // 다른 처리자가 먼저 지급함 - RewardService가 중복 키를 삼키고 빈 결과를 돌려준다
+        when(rewardService.openBoxIfEligible(999L, 20, null)).thenReturn(Optional.empty());
+
+        runOnce(dispatcher(3));
+
+        verify(outboxRepository).markDone(eq(4L), any(Instant.class));
+        verify(outboxRepository, never()).markFailedAttempt(any(), any(), any(), any());
+    }
+
+    private LevelUpOutboxDispatcher dispatcher(int maxAttempts) {
+        RewardOutboxProperties properties = new RewardOutboxProperties(
+                Duration.ofSeconds(5), 50, 2, maxAttempts, Duration.ofSeconds(1), Duration.ofMinutes(1));
+        return new LevelUpOutboxDispatcher(outboxRepository, rewardService, properties, transactionManager, meterRegistry);
+    }
+
+    // 조회 후 실행기에 넘어간 작업이 끝날 때까지 대기
+    private void runOnce(LevelUpOutboxDispatcher dispatcher) throws InterruptedException {
+        dispatcher.dispatchDue();
+        dispatcher.shutdown();
+    }
+
+    private LevelUpOutboxEvent pendingEvent(Long id, int newLevel) {
+        LevelUpOutboxEvent event = LevelUpOutboxEvent.pending(new LevelUpEvent(999L, newLevel - 1, newLevel, 100L));
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
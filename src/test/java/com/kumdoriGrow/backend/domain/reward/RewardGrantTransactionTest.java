@@ -0,0 +1,73 @@
+package com.kumdoriGrow.backend.domain.reward;
+
+import com.kumdoriGrow.backend.domain.receipt.Receipt;
+import com.kumdoriGrow.backend.domain.receipt.ReceiptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 중복 지급이 호출한 쪽 트랜잭션을 망치지 않는지
+ * - 조회를 통과한 뒤 유니크 제약에 걸려도 바깥 트랜잭션(영수증 저장)은 그대로 커밋되어야 한다 (UnexpectedRollbackException 없음)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 바깥 트랜잭션 커밋을 실제로 확인
+@Import(RewardService.class)
+class RewardGrantTransactionTest {
+
+    @MockitoSpyBean
+    private RewardGrantRepository rewardGrantRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        receiptRepository.deleteAll();
+        rewardGrantRepository.deleteAll();
+    }
+
+    @Test
+    void openBoxIfEligible_shouldLetCallerCommit_whenGrantIsDuplicate() {
+        rewardGrantRepository.saveAndFlush(new RewardGrant(999L, 5, 100, 0.5, "{}"));
+        // 동시 개봉이 먼저 지급한 상황 - 사전 조회는 아직 못 본 것으로 만든다
+        doReturn(false).when(rewardGrantRepository).existsByUserIdAndLevel(999L, 5);
+
+        Optional<RewardService.BoxOpenResult> result = new TransactionTemplate(transactionManager).execute(status -> {
+            receiptRepository.save(receipt(999L));
+            return rewardService.openBoxIfEligible(999L, 5, 7L);
+        });
+
+        assertThat(result).isEmpty();
+        assertThat(receiptRepository.count()).isEqualTo(1);
+        assertThat(rewardGrantRepository.count()).isEqualTo(1);
+    }
+
+    private static Receipt receipt(Long userId) {
+        Receipt r = new Receipt();
+        r.setUserId(userId);
+        r.setStoreName("가게");
+        r.setTotalAmount(1000L);
+        r.setCategoryCode("LOCAL");
+        r.setExpAwarded(15);
+        return r;
+    }
+}
@@ -1,7 +1,5 @@
 package com.kumdoriGrow.backend.domain.reward;
 
-import com.kumdoriGrow.backend.domain.receipt.Receipt;
-import com.kumdoriGrow.backend.domain.receipt.ReceiptRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +7,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 
@@ -20,14 +20,17 @@ import static org.mockito.Mockito.*;
 class RewardServiceTest {
     
     @Mock
-    private ReceiptRepository receiptRepository;
+    private RewardGrantRepository rewardGrantRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
     
     private RewardService rewardService;
     private ObjectMapper objectMapper = new ObjectMapper();
     
     @BeforeEach
     void setUp() {
-        rewardService = new RewardService(receiptRepository);
+        rewardService = new RewardService(rewardGrantRepository, transactionManager);
     }
     
     @Test
@@ -35,8 +38,7 @@ class RewardServiceTest {
         // Given
         Long userId = 999L;
         int newLevel = 5;
-        when(receiptRepository.existsByUserIdAndStatusAndOcrRawContaining(
-                userId, "REWARD", "\"level\":5")).thenReturn(false);
+        when(rewardGrantRepository.existsByUserIdAndLevel(userId, 5)).thenReturn(false);
         
         // When
         Optional<RewardService.BoxOpenResult> result = rewardService.openBoxIfEligible(userId, newLevel, 12345L);
@@ -46,17 +48,16 @@ class RewardServiceTest {
         assertThat(result.get().level()).isEqualTo(5);
         assertThat(result.get().points()).isGreaterThan(0);
         
-        // Verify receipt was saved
-        ArgumentCaptor<Receipt> receiptCaptor = ArgumentCaptor.forClass(Receipt.class);
-        verify(receiptRepository).save(receiptCaptor.capture());
-        
-        Receipt savedReceipt = receiptCaptor.getValue();
-        assertThat(savedReceipt.getUserId()).isEqualTo(userId);
-        assertThat(savedReceipt.getStoreName()).isEqualTo("POINT_BOX");
-        assertThat(savedReceipt.getCategoryCode()).isEqualTo("REWARD");
-        assertThat(savedReceipt.getStatus()).isEqualTo("REWARD");
-        assertThat(savedReceipt.getExpAwarded()).isEqualTo(0);
-        assertThat(savedReceipt.getTotalAmount()).isEqualTo((long) result.get().points());
+        // Verify grant was saved
+        ArgumentCaptor<RewardGrant> grantCaptor = ArgumentCaptor.forClass(RewardGrant.class);
+        verify(rewardGrantRepository).saveAndFlush(grantCaptor.capture());
+        
+        RewardGrant savedGrant = grantCaptor.getValue();
+        assertThat(savedGrant.getUserId()).isEqualTo(userId);
+        assertThat(savedGrant.getLevel()).isEqualTo(5);
+        assertThat(savedGrant.getPoints()).isEqualTo(result.get().points());
+        assertThat(savedGrant.getRoll()).isEqualTo(result.get().roll());
+        assertThat(savedGrant.getSnapshot()).contains("\"level\":5");
     }
     
     @Test
@@ -70,7 +71,7 @@ class RewardServiceTest {
         
         // Then
         assertThat(result).isEmpty();
-        verify(receiptRepository, never()).save(any());
+        verify(rewardGrantRepository, never()).saveAndFlush(any());
     }
     
     @Test
@@ -78,15 +79,29 @@ class RewardServiceTest {
         // Given
         Long userId = 999L;
         int newLevel = 10;
-        when(receiptRepository.existsByUserIdAndStatusAndOcrRawContaining(
-                userId, "REWARD", "\"level\":10")).thenReturn(true);
+        when(rewardGrantRepository.existsByUserIdAndLevel(userId, 10)).thenReturn(true);
         
         // When
         Optional<RewardService.BoxOpenResult> result = rewardService.openBoxIfEligible(userId, newLevel, null);
         
         // Then
         assertThat(result).isEmpty();
-        verify(receiptRepository, never()).save(any());
+        verify(rewardGrantRepository, never()).saveAndFlush(any());
+    }
+    
+    @Test
+    void openBoxIfEligible_shouldReturnEmpty_whenConcurrentGrantWins() {
+        // Given - 조회는 통과했지만 INSERT가 유니크 제약에 걸림
+        Long userId = 999L;
+        when(rewardGrantRepository.existsByUserIdAndLevel(userId, 15)).thenReturn(false);
+        when(rewardGrantRepository.saveAndFlush(any(RewardGrant.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_reward_grants_user_level"));
+        
+        // When
+        Optional<RewardService.BoxOpenResult> result = rewardService.openBoxIfEligible(userId, 15, null);
+        
+        // Then
+        assertThat(result).isEmpty();
     }
     
     @Test
@@ -103,8 +118,8 @@ class RewardServiceTest {
         assertThat(result.level()).isNull(); // 강제 개봉이므로 레벨 정보 없음
         assertThat(result.roll()).isBetween(0.0, 1.0);
         
-        // Verify receipt was saved
-        verify(receiptRepository).save(any(Receipt.class));
+        // Verify grant was saved
+        verify(rewardGrantRepository).saveAndFlush(any(RewardGrant.class));
     }
     
     @Test
@@ -141,7 +156,7 @@ class RewardServiceTest {
         
         // When - 같은 시드로 여러 번 실행
         RewardService.BoxOpenResult result1 = rewardService.openBoxNow(userId, seed);
-        reset(receiptRepository);
+        reset(rewardGrantRepository);
         RewardService.BoxOpenResult result2 = rewardService.openBoxNow(userId, seed);
         
         // Then - 같은 결과가 나와야 함
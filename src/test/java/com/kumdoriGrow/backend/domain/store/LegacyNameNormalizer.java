@@ -0,0 +1,53 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import java.util.regex.Pattern;
+
+/**
+ * 정규식 기반 이전 NameNormalizer (소문자화 + replaceAll 5단계)
+ * - NameNormalizer 결과 동등성 테스트와 NameNormalizerBenchmark 비교 기준
+ */
+class LegacyNameNormalizer {
+    
+    private static final Pattern COMPANY_SUFFIX_PATTERN = Pattern.compile("\\(주\\)|㈜|\\bCorp\\b|\\bInc\\b|\\bLtd\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SPECIAL_CHARS_PATTERN = Pattern.compile("[^가-힣a-zA-Z0-9]");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    
+    public String normalize(String storeName) {
+        if (storeName == null || storeName.trim().isEmpty()) {
+            return "";
+        }
+        
+        String normalized = storeName.trim();
+        
+        // 1. 소문자로 변환
+        normalized = normalized.toLowerCase();
+        
+        // 2. 회사 접미사 제거 (주), ㈜, Corp, Inc, Ltd 등
+        normalized = COMPANY_SUFFIX_PATTERN.matcher(normalized).replaceAll("");
+        
+        // 3. 특수문자 및 공백을 언더스코어로 변환
+        normalized = SPECIAL_CHARS_PATTERN.matcher(normalized).replaceAll("_");
+        
+        // 4. 연속된 언더스코어를 하나로 합침
+        normalized = normalized.replaceAll("_{2,}", "_");
+        
+        // 5. 앞뒤 언더스코어 제거
+        normalized = normalized.replaceAll("^_+|_+$", "");
+        
+        return normalized;
+    }
+    
+    /**
+     * 두 문자열의 포함 관계 확인 (정규화된 문자열 기준)
+     */
+    public boolean contains(String haystack, String needle) {
+        if (haystack == null || needle == null) {
+            return false;
+        }
+        
+        String normalizedHaystack = normalize(haystack);
+        String normalizedNeedle = normalize(needle);
+        
+        return normalizedHaystack.contains(normalizedNeedle);
+    }
+}
@@ -0,0 +1,57 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameNormalizerTest {
+
+    private final NameNormalizer normalizer = new NameNormalizer();
+    private final LegacyNameNormalizer legacy = new LegacyNameNormalizer();
+
+    @Test
+    void normalize_shouldLowercaseStripSuffixesAndCollapseSeparators() {
+        assertThat(normalizer.normalize("  (주)스타벅스 Korea Corp.  ")).isEqualTo("스타벅스_korea");
+        assertThat(normalizer.normalize("㈜성심당 - 본점!!")).isEqualTo("성심당_본점");
+        assertThat(normalizer.normalize("incheon bakery")).isEqualTo("incheon_bakery"); // 단어 경계가 아니면 유지
+        assertThat(normalizer.normalize("___")).isEmpty();
+        assertThat(normalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void normalize_shouldReturnSameInstance_whenAlreadyNormalized() {
+        String name = "스타벅스_대전대흥점";
+
+        assertThat(normalizer.normalize(name)).isSameAs(name);
+    }
+
+    @Test
+    void normalizeAndContains_shouldMatchLegacyRegexNormalizer_onRandomizedNames() {
+        String[] tokens = {
+                "스타벅스", "대흥점", "가", "힣", "ㄱ", "A", "z", "Q", "0", "9", "_", "__",
+                "Corp", "CORP", "inc", "Inc.", "LTD", "ltd", "(주)", "(주", "주)", "㈜", "(", ")",
+                " ", "  ", "\t", "\n", "-", ".", "&", "·", "\u3000", "Ａ", "Ä", "Σ", "I", "i",
+                "\u0130", "\u212A", "\u0301", "\u0307", "\uD834\uDD67", "🍜", "\uD83C"
+        };
+        Random random = new Random(20250820L);
+        for (int run = 0; run < 50_000; run++) {
+            String name = randomText(random, tokens);
+            String other = randomText(random, tokens);
+
+            assertThat(normalizer.normalize(name)).as("normalize %s", name).isEqualTo(legacy.normalize(name));
+            assertThat(normalizer.contains(name, other)).as("contains %s / %s", name, other)
+                    .isEqualTo(legacy.contains(name, other));
+        }
+    }
+
+    private static String randomText(Random random, String[] tokens) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(12);
+        for (int k = 0; k < length; k++) {
+            sb.append(tokens[random.nextInt(tokens.length)]);
+        }
+        return sb.toString();
+    }
+}
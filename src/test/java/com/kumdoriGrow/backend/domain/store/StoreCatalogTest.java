@@ -0,0 +1,197 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상주 스냅샷 - 적재 후 조회는 메모리에서만, 변경 커밋 시 한 번만 재적재, 교체 중에도 읽는 쪽은 온전한 스냅샷만 본다
+ */
+@ExtendWith(MockitoExtension.class)
+class StoreCatalogTest {
+
+    private static final StoreCatalogChangedEvent CHANGED = new StoreCatalogChangedEvent(Store.class, 1L);
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreAliasRepository storeAliasRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StoreCatalog storeCatalog;
+
+    @BeforeEach
+    void setUp() {
+        storeCatalog = new StoreCatalog(storeRepository, storeAliasRepository, transactionManager,
+                new StoreMatchingProperties());
+    }
+
+    @Test
+    void index_shouldBeEmpty_beforeLoad_andWhenCatalogIsEmpty() {
+        assertThat(storeCatalog.index()).isSameAs(StoreIndex.empty());
+
+        when(storeRepository.findAll()).thenReturn(List.of());
+        when(storeAliasRepository.findAll()).thenReturn(List.of());
+        storeCatalog.loadOnStartup();
+
+        StoreIndex index = storeCatalog.index();
+        assertThat(index.storeCount()).isZero();
+        assertThat(index.aliasCount()).isZero();
+        assertThat(index.findByNormalizedName("스타벅스")).isEmpty();
+        assertThat(index.findStoresContaining("스타")).isEmpty();
+        assertThat(index.findFuzzy("스타벅스", 0.88)).isEmpty();
+    }
+
+    @Test
+    void index_shouldServeLookupsFromSnapshot_withoutTouchingRepositories() {
+        when(storeRepository.findAll()).thenReturn(List.of(store(1L, "스타벅스_대흥점"), store(2L, "성심당_본점")));
+        when(storeAliasRepository.findAll()).thenReturn(List.of(alias(1L, 1L, "스벅")));
+        storeCatalog.loadOnStartup();
+
+        for (int i = 0; i < 100; i++) {
+            StoreIndex index = storeCatalog.index();
+            assertThat(index.findByNormalizedName("성심당_본점")).get().extracting(Store::getId).isEqualTo(2L);
+            assertThat(index.findByNormalizedAlias("스벅")).get().extracting(StoreAlias::getStoreId).isEqualTo(1L);
+            assertThat(index.findStoresContaining("대흥")).extracting(Store::getId).containsExactly(1L);
+        }
+
+        verify(storeRepository, times(1)).findAll();
+        verify(storeAliasRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onCatalogChanged_shouldReloadOnce_perBatchOfChanges() {
+        when(storeRepository.findAll())
+                .thenReturn(List.of(store(1L, "스타벅스_대흥점")))
+                .thenReturn(List.of(store(1L, "스타벅스_대흥점"), store(2L, "성심당_본점")));
+        when(storeAliasRepository.findAll()).thenReturn(List.of());
+        storeCatalog.loadOnStartup();
+
+        // 변경 요청 없이 커밋 이벤트만 오면 재적재하지 않는다
+        storeCatalog.onCatalogChanged(CHANGED);
+        assertThat(storeCatalog.index().storeCount()).isEqualTo(1);
+
+        // 한 트랜잭션에서 여러 건이 바뀌면 커밋 후 이벤트가 여러 번 와도 재적재는 한 번
+        StoreIndex before = storeCatalog.index();
+        for (int i = 0; i < 3; i++) {
+            storeCatalog.markDirty(CHANGED);
+        }
+        for (int i = 0; i < 3; i++) {
+            storeCatalog.onCatalogChanged(CHANGED);
+        }
+
+        assertThat(storeCatalog.index()).isNotSameAs(before);
+        assertThat(storeCatalog.index().findByNormalizedName("성심당_본점")).isPresent();
+        verify(storeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onCatalogChanged_shouldKeepPreviousSnapshot_whenReloadFails() {
+        when(storeRepository.findAll())
+                .thenReturn(List.of(store(1L, "스타벅스_대흥점")))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(store(1L, "스타벅스_대흥점"), store(2L, "성심당_본점")));
+        when(storeAliasRepository.findAll()).thenReturn(List.of());
+        storeCatalog.loadOnStartup();
+        StoreIndex loaded = storeCatalog.index();
+
+        storeCatalog.markDirty(CHANGED);
+        storeCatalog.onCatalogChanged(CHANGED);
+        assertThat(storeCatalog.index()).isSameAs(loaded);
+
+        // 실패한 변경은 다음 커밋 때 다시 반영된다
+        storeCatalog.onCatalogChanged(CHANGED);
+        assertThat(storeCatalog.index().storeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_shouldSwapWholeSnapshots_underConcurrentReaders() throws Exception {
+        // 세대마다 가게 수와 이름이 함께 바뀌므로, 반쯤 바뀐 스냅샷을 보면 개수/이름/색인이 어긋난다
+        AtomicInteger generation = new AtomicInteger();
+        when(storeRepository.findAll()).thenAnswer(invocation -> {
+            int g = generation.incrementAndGet();
+            List<Store> stores = new ArrayList<>();
+            for (int i = 0; i < 10 + g % 5; i++) {
+                stores.add(store((long) i + 1, "gen" + g + "_가게" + i));
+            }
+            return stores;
+        });
+        when(storeAliasRepository.findAll()).thenReturn(List.of());
+        storeCatalog.loadOnStartup();
+
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(readers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int r = 0; r < readers; r++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    int reads = 0;
+                    do {
+                        StoreIndex index = storeCatalog.index();
+                        List<Store> stores = index.stores();
+                        String prefix = stores.get(0).getNormalizedName().split("_")[0];
+                        int g = Integer.parseInt(prefix.substring(3));
+                        assertThat(index.storeCount()).isEqualTo(10 + g % 5).isEqualTo(stores.size());
+                        assertThat(stores).allMatch(store -> store.getNormalizedName().startsWith(prefix + "_"));
+                        assertThat(index.findStoresContaining(prefix + "_")).hasSize(stores.size());
+                        assertThat(index.findByNormalizedName(prefix + "_가게0")).isPresent();
+                        reads++;
+                    } while (running.get());
+                    return reads;
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 200; i++) {
+                storeCatalog.refresh();
+            }
+            running.set(false);
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPositive();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        assertThat(storeCatalog.index().findByNormalizedName("gen" + generation.get() + "_가게0")).isPresent();
+    }
+
+    private static Store store(Long id, String normalizedName) {
+        Store store = new Store(normalizedName, normalizedName, "LOCAL", null);
+        store.setId(id);
+        return store;
+    }
+
+    private static StoreAlias alias(Long id, Long storeId, String normalizedAlias) {
+        StoreAlias alias = new StoreAlias(storeId, normalizedAlias, normalizedAlias);
+        alias.setId(id);
+        return alias;
+    }
+}
@@ -0,0 +1,65 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부분 매칭 - 색인 조회가 이전 LIKE '%x%' 쿼리(정규화명/정규화 별칭 contains, id 순)와 같은 목록을 돌려주는지
+ */
+class StoreIndexTest {
+
+    private static final String[] BRANDS = {"스타벅스", "이디야커피", "성심당", "gs25", "cu", "동네카페", "할머니국밥"};
+    private static final String[] AREAS = {"대흥", "둔산", "유성", "은행", "대전역", "한밭대"};
+
+    private final NameNormalizer nameNormalizer = new NameNormalizer();
+
+    @Test
+    void findContaining_shouldMatchContainsScan_forStoresAndAliases() {
+        Random random = new Random(4);
+        List<Store> stores = new ArrayList<>();
+        List<StoreAlias> aliases = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " " + AREAS[random.nextInt(AREAS.length)] + i + "점";
+            Store store = new Store(name, nameNormalizer.normalize(name), "LOCAL", null);
+            store.setId((long) i + 1);
+            stores.add(store);
+
+            String aliasName = BRANDS[random.nextInt(BRANDS.length)] + i;
+            StoreAlias alias = new StoreAlias(store.getId(), aliasName, nameNormalizer.normalize(aliasName));
+            alias.setId((long) i + 1);
+            aliases.add(alias);
+        }
+        // DB에서 읽은 순서와 무관하게 결과는 id 순
+        Collections.shuffle(stores, random);
+        Collections.shuffle(aliases, random);
+        StoreIndex index = StoreIndex.of(stores, aliases, EditDistanceKernelType.MYERS.create(), false);
+
+        List<String> queries = new ArrayList<>(List.of("", "점", "대흥", "스타벅스", "gs25_둔산", "카페_유", "1", "12", "없는가게"));
+        for (int i = 0; i < 200; i++) {
+            String term = stores.get(random.nextInt(stores.size())).getNormalizedName();
+            int start = random.nextInt(term.length());
+            queries.add(term.substring(start, Math.min(term.length(), start + 1 + random.nextInt(8))));
+        }
+
+        List<Store> storesById = index.stores();
+        List<StoreAlias> aliasesById = index.aliases();
+        for (String query : queries) {
+            assertThat(index.findStoresContaining(query)).as("stores containing %s", query)
+                    .containsExactlyElementsOf(storesById.stream()
+                            .filter(store -> store.getNormalizedName().contains(query))
+                            .toList());
+            assertThat(index.findAliasesContaining(query)).as("aliases containing %s", query)
+                    .containsExactlyElementsOf(aliasesById.stream()
+                            .filter(alias -> alias.getNormalizedAlias().contains(query))
+                            .toList());
+        }
+        assertThat(storesById).isSortedAccordingTo((a, b) -> Long.compare(a.getId(), b.getId()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import com.kumdoriGrow.backend.domain.store.fuzzy.EditDistanceKernelType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 후보 병렬 매칭 - 스레드 수와 무관하게 순차 매칭과 같은 결과를 내야 한다
+ */
+@ExtendWith(MockitoExtension.class)
+class StoreResolverParallelTest {
+
+    private static final String[] NAMES = {
+            "스타벅스 대전대흥점", "스타벅스 둔산점", "이디야커피 대흥점", "성심당 본점", "대전중앙시장 국밥집",
+            "동네카페 1호점", "동네카페 2호점", "커피빈 유성점", "파리바게뜨 대흥점", "한밭국밥"
+    };
+
+    @Mock
+    private StoreCatalog storeCatalog;
+
+    private final NameNormalizer nameNormalizer = new NameNormalizer();
+    private StoreResolver sequential;
+    private StoreResolver parallel;
+
+    @BeforeEach
+    void setUp() {
+        List<Store> stores = new ArrayList<>();
+        List<StoreAlias> aliases = new ArrayList<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            Store store = new Store(NAMES[i], nameNormalizer.normalize(NAMES[i]), "FRANCHISE", i % 2 == 0 ? "BRAND" : null);
+            store.setId((long) i + 1);
+            stores.add(store);
+
+            // 브랜드명 별칭 (가게마다 달라지도록 번호를 붙임)
+            String brand = NAMES[i].split(" ")[0] + i;
+            StoreAlias alias = new StoreAlias(store.getId(), brand, nameNormalizer.normalize(brand));
+            alias.setId((long) i + 1);
+            aliases.add(alias);
+        }
+        when(storeCatalog.index()).thenReturn(StoreIndex.of(stores, aliases, EditDistanceKernelType.MYERS.create(), true));
+
+        sequential = new StoreResolver(storeCatalog, nameNormalizer, properties(1));
+        parallel = new StoreResolver(storeCatalog, nameNormalizer, properties(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    void resolveCandidates_shouldShortCircuitOnExactMatch() {
+        StoreMatchResult result = parallel.resolveCandidates(List.of("스타벅스 대전대흥정", "성심당 본점", "동네카페"));
+
+        assertThat(result.getStore().getName()).isEqualTo("성심당 본점");
+        assertThat(result.getMatchType()).isEqualTo(StoreMatchResult.MatchType.EXACT_STORE_NAME);
+        assertThat(result.getConfidence()).isEqualTo(0.99);
+    }
+
+    @Test
+    void resolveCandidates_shouldMatchSequentialResolution_onRandomizedCandidates() {
+        String[] noise = {"", " ", "점", "정", "스", "1", "영수증", "대흥", "카페", "국밥", "TEL 042"};
+        Random random = new Random(25);
+        for (int run = 0; run < 500; run++) {
+            List<String> candidates = new ArrayList<>();
+            int count = 1 + random.nextInt(10);
+            for (int k = 0; k < count; k++) {
+                String name = NAMES[random.nextInt(NAMES.length)];
+                StringBuilder sb = new StringBuilder(name.substring(0, 1 + random.nextInt(name.length())));
+                if (random.nextBoolean()) sb.append(noise[random.nextInt(noise.length)]);
+                candidates.add(sb.toString());
+            }
+
+            StoreMatchResult expected = sequential.resolveCandidates(candidates);
+            StoreMatchResult actual = parallel.resolveCandidates(candidates);
+
+            assertThat(actual.getStore()).as("store for %s", candidates).isSameAs(expected.getStore());
+            assertThat(actual.getConfidence()).as("confidence for %s", candidates).isEqualTo(expected.getConfidence());
+            assertThat(actual.getMatchType()).isEqualTo(expected.getMatchType());
+            assertThat(actual.getMatchedText()).isEqualTo(expected.getMatchedText());
+        }
+    }
+
+    private static StoreMatchingProperties properties(int parallelism) {
+        return new StoreMatchingProperties(EditDistanceKernelType.MYERS, true, null, parallelism);
+    }
+}
@@ -0,0 +1,112 @@
+package com.kumdoriGrow.backend.domain.store;
+
+import com.kumdoriGrow.backend.config.StoreMatchingProperties;
+import com.kumdoriGrow.backend.domain.category.Category;
+import com.kumdoriGrow.backend.domain.category.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가게 매칭 시 DB 조회 횟수 회귀 테스트
+ * - 별칭이 수십 건 걸려도 resolve()는 스냅샷만 읽고 SQL을 한 건도 실행하지 않아야 한다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스냅샷 적재(별도 트랜잭션)가 저장된 데이터를 볼 수 있도록
+class StoreResolverQueryCountTest {
+
+    private static final int ALIAS_COUNT = 50;
+
+    @TestConfiguration
+    @EnableConfigurationProperties(StoreMatchingProperties.class)
+    @Import({StoreCatalog.class, StoreResolver.class, NameNormalizer.class})
+    static class Config {
+    }
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreAliasRepository storeAliasRepository;
+
+    @Autowired
+    private StoreCatalog storeCatalog;
+
+    @Autowired
+    private StoreResolver storeResolver;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.save(new Category("FRANCHISE", "프랜차이즈", 1.0));
+
+        Store starbucks = storeRepository.save(new Store("스타벅스 대전대흥동점", "스타벅스_대전_대흥동점", "FRANCHISE", "STARBUCKS"));
+        storeAliasRepository.save(new StoreAlias(starbucks.getId(), "스벅", "스벅"));
+
+        // 짧은 토큰 하나가 여러 가게의 별칭에 걸리도록 구성
+        for (int i = 0; i < ALIAS_COUNT; i++) {
+            Store store = storeRepository.save(new Store("동네카페 " + i + "호점", "동네카페_" + i + "호점", "FRANCHISE", null));
+            storeAliasRepository.save(new StoreAlias(store.getId(), "커피" + i, "커피" + i));
+        }
+
+        storeCatalog.refresh();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeAliasRepository.deleteAll();
+        storeRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void resolve_shouldNotQueryDatabase_whenManyAliasesMatch() {
+        // "커피"는 50개 별칭에 부분 매칭된다 (예전에는 별칭마다 findById 1회)
+        StoreMatchResult result = storeResolver.resolve("커피\n스벅");
+
+        assertThat(result.isMatched()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void resolve_shouldKeepMatchResults_forAliasHits() {
+        StoreMatchResult exactAlias = storeResolver.resolve("스벅");
+        assertThat(exactAlias.getStore().getName()).isEqualTo("스타벅스 대전대흥동점");
+        assertThat(exactAlias.getMatchType()).isEqualTo(StoreMatchResult.MatchType.EXACT_ALIAS);
+        assertThat(exactAlias.getConfidence()).isEqualTo(0.99);
+
+        StoreMatchResult partialAlias = storeResolver.resolve("커피");
+        assertThat(partialAlias.getMatchType()).isEqualTo(StoreMatchResult.MatchType.PARTIAL_ALIAS);
+        assertThat(partialAlias.getConfidence()).isEqualTo(0.93);
+        // 동률이면 id 순서상 첫 별칭의 가게
+        assertThat(partialAlias.getStore().getName()).isEqualTo("동네카페 0호점");
+
+        StoreMatchResult fuzzy = storeResolver.resolve("스타벅스 대전 대흉동점");
+        assertThat(fuzzy.getMatchType()).isEqualTo(StoreMatchResult.MatchType.FUZZY_MATCH);
+        assertThat(fuzzy.getStore().getName()).isEqualTo("스타벅스 대전대흥동점");
+        assertThat(fuzzy.getConfidence()).isEqualTo(1.0 - 1.0 / 12);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EditDistanceKernelTest {
+
+    private static final String ALPHABET = "가나다라마스타벅ab_1";
+
+    private final EditDistanceKernel reference = new FullMatrixLevenshtein();
+
+    @Test
+    void boundedKernels_shouldMatchFullMatrix_withinBound() {
+        Random random = new Random(42);
+        EditDistanceKernel[] kernels = {new BandedLevenshtein(), new MyersLevenshtein()};
+
+        for (int i = 0; i < 20_000; i++) {
+            // 64자 초과 입력도 섞어 MYERS → BANDED 위임 경로까지 확인
+            String a = randomString(random, i % 100 == 0 ? 120 : 30);
+            String b = random.nextBoolean() ? mutate(a, random) : randomString(random, 30);
+            int expected = reference.distance(a, b, Integer.MAX_VALUE);
+            int maxDistance = random.nextInt(10);
+
+            for (EditDistanceKernel kernel : kernels) {
+                int bounded = kernel.distance(a, b, maxDistance);
+                if (expected <= maxDistance) {
+                    assertThat(bounded).as("%s(%s, %s, %d)", kernel.getClass().getSimpleName(), a, b, maxDistance)
+                            .isEqualTo(expected);
+                } else {
+                    assertThat(bounded).as("%s(%s, %s, %d)", kernel.getClass().getSimpleName(), a, b, maxDistance)
+                            .isGreaterThan(maxDistance);
+                }
+                assertThat(kernel.distance(a, b)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void kernels_shouldHandleEmptyStrings() {
+        for (EditDistanceKernelType type : EditDistanceKernelType.values()) {
+            EditDistanceKernel kernel = type.create();
+            assertThat(kernel.distance("", "")).isZero();
+            assertThat(kernel.distance("", "스타벅스")).isEqualTo(4);
+            assertThat(kernel.distance("스타벅스", "")).isEqualTo(4);
+        }
+    }
+
+    private String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private String mutate(String s, Random random) {
+        StringBuilder sb = new StringBuilder(s);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits; i++) {
+            int op = random.nextInt(3);
+            if (op == 0) {
+                sb.insert(random.nextInt(sb.length() + 1), ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            } else if (sb.length() > 0) {
+                int pos = random.nextInt(sb.length());
+                if (op == 1) {
+                    sb.deleteCharAt(pos);
+                } else {
+                    sb.setCharAt(pos, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
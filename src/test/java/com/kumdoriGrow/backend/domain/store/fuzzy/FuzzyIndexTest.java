@@ -0,0 +1,127 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 길이별 BK-tree 검색이 카탈로그 전체를 훑는 brute-force 결과와 같은지 (StoreResolver 임계값 0.88 기준)
+ */
+class FuzzyIndexTest {
+
+    private static final double FUZZY_THRESHOLD = 0.88;
+    private static final String ALPHABET = "가나다라마스타벅점대흥ab_1";
+
+    private final EditDistanceKernel reference = new FullMatrixLevenshtein();
+
+    @Test
+    void search_shouldMatchBruteForce_atFuzzyThreshold() {
+        Random random = new Random(2);
+        List<String> terms = catalog(random, 2_000);
+
+        for (EditDistanceKernelType type : EditDistanceKernelType.values()) {
+            FuzzyIndex index = FuzzyIndex.build(terms, type.create());
+            for (int run = 0; run < 1_000; run++) {
+                String query = random.nextInt(4) > 0
+                        ? mutate(terms.get(random.nextInt(terms.size())), random)
+                        : randomString(random, 25);
+                assertSameAsBruteForce(type, index, terms, query, FUZZY_THRESHOLD);
+            }
+        }
+    }
+
+    @Test
+    void search_shouldMatchBruteForce_atOtherThresholds() {
+        Random random = new Random(3);
+        List<String> terms = catalog(random, 500);
+        FuzzyIndex index = FuzzyIndex.build(terms, new MyersLevenshtein());
+
+        for (int run = 0; run < 2_000; run++) {
+            String query = mutate(terms.get(random.nextInt(terms.size())), random);
+            double threshold = 0.5 + random.nextInt(6) * 0.1;
+            assertSameAsBruteForce(EditDistanceKernelType.MYERS, index, terms, query, threshold);
+        }
+    }
+
+    @Test
+    void search_shouldReturnEveryOrdinal_forDuplicateTerms() {
+        List<String> terms = List.of("스타벅스_대흥점", "성심당_본점", "스타벅스_대흥점", "");
+        FuzzyIndex index = FuzzyIndex.build(terms, new MyersLevenshtein());
+
+        assertThat(index.search("스타벅스_대흥점", FUZZY_THRESHOLD))
+                .extracting(FuzzyIndex.Hit::ordinal, FuzzyIndex.Hit::similarity)
+                .containsExactly(tuple(0, 1.0), tuple(2, 1.0));
+        assertThat(index.search("", FUZZY_THRESHOLD))
+                .extracting(FuzzyIndex.Hit::ordinal)
+                .containsExactly(3);
+        assertThat(FuzzyIndex.build(List.of(), new MyersLevenshtein()).search("스타벅스", FUZZY_THRESHOLD)).isEmpty();
+    }
+
+    private void assertSameAsBruteForce(EditDistanceKernelType type, FuzzyIndex index, List<String> terms,
+                                        String query, double threshold) {
+        List<FuzzyIndex.Hit> expected = new ArrayList<>();
+        for (int ordinal = 0; ordinal < terms.size(); ordinal++) {
+            double similarity = similarity(query, terms.get(ordinal));
+            if (similarity >= threshold) {
+                expected.add(new FuzzyIndex.Hit(ordinal, similarity));
+            }
+        }
+
+        assertThat(index.search(query, threshold))
+                .as("%s search(%s, %.2f)", type, query, threshold)
+                .containsExactlyElementsOf(expected);
+    }
+
+    // 색인 없이 전체 행렬 거리로 계산한 유사도
+    private double similarity(String a, String b) {
+        if (a.equals(b)) return 1.0;
+        if (a.isEmpty() || b.isEmpty()) return 0.0;
+        return 1.0 - (double) reference.distance(a, b, Integer.MAX_VALUE) / Math.max(a.length(), b.length());
+    }
+
+    // 무작위 이름과 그 변형(한두 글자 차이 지점명)을 섞어 BK-tree 가지가 실제로 겹치게 만든다
+    private List<String> catalog(Random random, int size) {
+        List<String> terms = new ArrayList<>(size);
+        while (terms.size() < size) {
+            if (terms.isEmpty() || random.nextInt(3) == 0) {
+                terms.add(randomString(random, 25));
+            } else {
+                terms.add(mutate(terms.get(random.nextInt(terms.size())), random));
+            }
+        }
+        return terms;
+    }
+
+    private String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private String mutate(String s, Random random) {
+        StringBuilder sb = new StringBuilder(s);
+        int edits = random.nextInt(4);
+        for (int i = 0; i < edits; i++) {
+            int op = random.nextInt(3);
+            if (op == 0) {
+                sb.insert(random.nextInt(sb.length() + 1), ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            } else if (sb.length() > 0) {
+                int pos = random.nextInt(sb.length());
+                if (op == 1) {
+                    sb.deleteCharAt(pos);
+                } else {
+                    sb.setCharAt(pos, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
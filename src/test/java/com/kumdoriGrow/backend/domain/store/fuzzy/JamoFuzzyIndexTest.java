@@ -0,0 +1,134 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class JamoFuzzyIndexTest {
+
+    private static final String ALPHABET = "대데흥홍점젬스타벅수국밥반ab_1ㅇ";
+
+    @Test
+    void decompose_shouldSplitSyllables_andKeepOtherChars() {
+        assertThat(HangulJamo.decompose("대흥점")).isEqualTo("ㄷㅐㅎㅡㅇㅈㅓㅁ");
+        assertThat(HangulJamo.decompose("닭_과자a1")).isEqualTo("ㄷㅏㄺ_ㄱㅘㅈㅏa1");
+        assertThat(HangulJamo.decompose("")).isEmpty();
+    }
+
+    @Test
+    void similarity_shouldChargeLessForOcrConfusions() {
+        // ㅐ/ㅔ 한 획 차이: 자모 8개 중 0.3
+        assertThat(JamoFuzzyIndex.similarity("대흥점", "데흥점")).isCloseTo(1 - 0.3 / 8, within(1e-9));
+        // 표에 없는 치환(ㅂ/ㄴ)은 1
+        assertThat(JamoFuzzyIndex.similarity("국밥집", "국반집")).isCloseTo(1 - 1.0 / 9, within(1e-9));
+        assertThat(JamoFuzzyIndex.similarity("스타벅스", "스타벅스")).isEqualTo(1.0);
+        assertThat(JamoFuzzyIndex.similarity("", "스타벅스")).isEqualTo(0.0);
+    }
+
+    @Test
+    void search_shouldFindSingleJamoMisread_thatSyllableIndexMisses() {
+        List<String> terms = List.of("스타벅스_대흥점", "대전_국밥집", "대흥점");
+        FuzzyIndex syllables = FuzzyIndex.build(terms, new MyersLevenshtein());
+        JamoFuzzyIndex jamo = JamoFuzzyIndex.build(terms);
+
+        // 음절 기준으로는 3글자 중 1글자 오류 (0.67)
+        assertThat(syllables.search("데흥점", 0.88)).isEmpty();
+        assertThat(jamo.search("데흥점", 0.88))
+                .extracting(FuzzyIndex.Hit::ordinal)
+                .containsExactly(2);
+        // ㅡ/ㅜ + ㅇ/ㅁ 두 군데 오인식도 0.85 컷을 넘는다
+        assertThat(jamo.search("스타벅수_대흠점", 0.85))
+                .extracting(FuzzyIndex.Hit::ordinal)
+                .containsExactly(0);
+    }
+
+    @Test
+    void search_shouldMatchBruteForce_onRandomizedTerms() {
+        Random random = new Random(7);
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            terms.add(randomString(random, 8));
+        }
+        JamoFuzzyIndex index = JamoFuzzyIndex.build(terms);
+
+        for (int run = 0; run < 2_000; run++) {
+            String query = random.nextBoolean() ? mutate(terms.get(random.nextInt(terms.size())), random) : randomString(random, 8);
+            double threshold = 0.6 + random.nextInt(4) * 0.1;
+
+            List<Integer> expected = new ArrayList<>();
+            for (int ordinal = 0; ordinal < terms.size(); ordinal++) {
+                if (JamoFuzzyIndex.similarity(query, terms.get(ordinal)) + 1e-9 >= threshold) {
+                    expected.add(ordinal);
+                }
+            }
+
+            assertThat(index.search(query, threshold))
+                    .as("search(%s, %.1f)", query, threshold)
+                    .extracting(FuzzyIndex.Hit::ordinal)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void boundedDistance_shouldMatchFullDistance_withinBound() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            char[] a = HangulJamo.decompose(randomString(random, 10)).toCharArray();
+            char[] b = HangulJamo.decompose(random.nextBoolean() ? mutate(new String(a), random) : randomString(random, 10)).toCharArray();
+            double expected = fullDistance(a, b);
+            double maxDistance = random.nextInt(8) + random.nextInt(10) / 10.0;
+
+            double bounded = JamoFuzzyIndex.distance(a, b, maxDistance);
+            if (expected <= maxDistance) {
+                assertThat(bounded).isCloseTo(expected, within(1e-9));
+            } else {
+                assertThat(bounded).isGreaterThan(maxDistance);
+            }
+        }
+    }
+
+    // 띠/조기 종료 없는 기준 DP
+    private static double fullDistance(char[] a, char[] b) {
+        double[][] d = new double[a.length + 1][b.length + 1];
+        for (int i = 0; i <= a.length; i++) d[i][0] = i;
+        for (int j = 0; j <= b.length; j++) d[0][j] = j;
+        for (int i = 1; i <= a.length; i++) {
+            for (int j = 1; j <= b.length; j++) {
+                d[i][j] = Math.min(d[i - 1][j - 1] + JamoConfusionCosts.substitution(a[i - 1], b[j - 1]),
+                        Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length][b.length];
+    }
+
+    private static String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String mutate(String s, Random random) {
+        StringBuilder sb = new StringBuilder(s);
+        int edits = random.nextInt(3);
+        for (int e = 0; e < edits; e++) {
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            int op = random.nextInt(3);
+            if (op == 0 || sb.isEmpty()) {
+                sb.insert(random.nextInt(sb.length() + 1), c);
+            } else if (op == 1) {
+                sb.deleteCharAt(random.nextInt(sb.length()));
+            } else {
+                sb.setCharAt(random.nextInt(sb.length()), c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.kumdoriGrow.backend.domain.store.fuzzy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 역색인 검색이 String.contains 전수 검사(기존 LIKE '%x%')와 같은 결과를 내는지
+ */
+class SubstringIndexTest {
+
+    private static final String ALPHABET = "가나다라마스타벅점대흥ab_1";
+
+    private final List<String> terms = List.of(
+            "스타벅스_대흥점", "성심당_본점", "스타벅스_둔산점", "대흥동_국밥", "gs25_대흥점", "스벅", "");
+    private final SubstringIndex index = SubstringIndex.build(terms);
+
+    @Test
+    void search_shouldAnswerQueriesShorterThanTrigram_fromGramPostings() {
+        assertThat(index.search("점")).containsExactly(0, 1, 2, 4);
+        assertThat(index.search("대흥")).containsExactly(0, 3, 4);
+        assertThat(index.search("스벅")).containsExactly(5);
+        assertThat(index.search("g")).containsExactly(4);
+        assertThat(index.search("없")).isEmpty();
+    }
+
+    @Test
+    void search_shouldConfirmLongHangulQueries_againstTerms() {
+        assertThat(index.search("스타벅스")).containsExactly(0, 2);
+        assertThat(index.search("스타벅스_대흥점")).containsExactly(0);
+        assertThat(index.search("_대흥점")).containsExactly(0, 4);
+        assertThat(index.search("스타벅스_대흥동")).isEmpty();
+
+        // trigram(스타벅, 타벅스, 벅스점)은 모두 한 단어에 있지만 이어지지 않는다 - 최종 contains 확인에서 걸러짐
+        assertThat(SubstringIndex.build(List.of("스타벅_타벅스점")).search("스타벅스점")).isEmpty();
+    }
+
+    @Test
+    void search_shouldMatchEverything_forEmptyQuery() {
+        assertThat(index.search("")).containsExactly(IntStream.range(0, terms.size()).toArray());
+        assertThat(SubstringIndex.build(List.of()).search("스타")).isEmpty();
+    }
+
+    @Test
+    void search_shouldMatchContainsScan_onRandomizedTerms() {
+        Random random = new Random(4);
+        List<String> catalog = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            catalog.add(randomString(random, 12));
+        }
+        SubstringIndex randomIndex = SubstringIndex.build(catalog);
+
+        for (int run = 0; run < 5_000; run++) {
+            // 반은 실제 단어의 일부(1~6자), 반은 무작위 질의 - 반복 gram("가가가가")도 자연히 섞인다
+            String query;
+            String source = catalog.get(random.nextInt(catalog.size()));
+            if (random.nextBoolean() && !source.isEmpty()) {
+                int start = random.nextInt(source.length());
+                query = source.substring(start, Math.min(source.length(), start + 1 + random.nextInt(6)));
+            } else {
+                query = randomString(random, 6);
+            }
+
+            int[] expected = IntStream.range(0, catalog.size())
+                    .filter(ordinal -> catalog.get(ordinal).contains(query))
+                    .toArray();
+            assertThat(randomIndex.search(query)).as("search(%s)", query).containsExactly(expected);
+        }
+    }
+
+    private String randomString(Random random, int maxLength) {
+        int length = random.nextInt(maxLength);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
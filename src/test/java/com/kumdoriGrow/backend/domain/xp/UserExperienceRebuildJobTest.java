@@ -0,0 +1,72 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.config.XpProperties;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({XpLedger.class, UserExperienceUpsert.class, UserExperienceRebuildJob.class, ExpCalculator.class})
+class UserExperienceRebuildJobTest {
+
+    @MockitoBean
+    private XpProperties xpProperties;
+
+    @MockitoBean
+    private CategoryWeightProvider categoryWeightProvider;
+
+    @Autowired
+    private UserExperienceRebuildJob rebuildJob;
+
+    @Autowired
+    private XpLedger xpLedger;
+
+    @Autowired
+    private ExpCalculator expCalculator;
+
+    @Autowired
+    private XpLedgerRepository xpLedgerRepository;
+
+    @Autowired
+    private UserExperienceRepository userExperienceRepository;
+
+    @Test
+    void rebuildAll_shouldMatchLedgerSums_andCorrectDrift() {
+        xpLedger.recordAll(List.of(
+                XpAward.forReceipt(1L, 10L, 300),
+                XpAward.forReceipt(1L, 11L, 250),
+                XpAward.forReceipt(2L, 12L, 40),
+                XpAward.forReceipt(3L, 13L, 70)));
+
+        // 사용자 1: 값 드리프트, 사용자 2: 스냅샷 없음, 사용자 3: 정상
+        UserExperience drifted = userExperienceRepository.findById(1L).orElseThrow();
+        drifted.setTotalExp(999L);
+        drifted.setLevel(1);
+        userExperienceRepository.deleteById(2L);
+        userExperienceRepository.flush();
+
+        assertThat(rebuildJob.rebuildAll()).isEqualTo(2);
+
+        userExperienceRepository.flush();
+        for (long userId = 1; userId <= 3; userId++) {
+            UserExperience snapshot = userExperienceRepository.findById(userId).orElseThrow();
+            long ledgerTotal = xpLedgerRepository.sumDeltaAfter(userId, 0L);
+            assertThat(snapshot.getTotalExp()).as("user %d", userId).isEqualTo(ledgerTotal);
+            assertThat(snapshot.getLevel()).as("user %d", userId).isEqualTo(expCalculator.levelOf(ledgerTotal));
+            assertThat(snapshot.getLastLedgerId()).as("user %d", userId).isEqualTo(xpLedgerRepository.findMaxId(userId));
+        }
+        assertThat(userExperienceRepository.findById(1L).orElseThrow().getTotalExp()).isEqualTo(550);
+        assertThat(userExperienceRepository.findById(1L).orElseThrow().getLevel()).isEqualTo(3);
+
+        // 이미 맞춰진 상태에서는 바꿀 것이 없다
+        assertThat(rebuildJob.rebuildAll()).isZero();
+    }
+}
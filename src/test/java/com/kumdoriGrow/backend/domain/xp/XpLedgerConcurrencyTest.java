@@ -0,0 +1,89 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.config.XpProperties;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷이 없는 사용자의 첫 적립이 동시에 들어오는 경우
+ * - 모든 적립이 커밋되고, 스냅샷이 원장 합계와 같아야 한다 (PK 충돌로 영수증 처리가 실패하지 않음)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 XpLedger 트랜잭션이 실제로 커밋되도록
+@Import({XpLedger.class, UserExperienceUpsert.class, ExpCalculator.class})
+class XpLedgerConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final long USER_ID = 42L;
+
+    @MockitoBean
+    private XpProperties xpProperties;
+
+    @MockitoBean
+    private CategoryWeightProvider categoryWeightProvider;
+
+    @Autowired
+    private XpLedger xpLedger;
+
+    @Autowired
+    private ExpCalculator expCalculator;
+
+    @Autowired
+    private XpLedgerRepository xpLedgerRepository;
+
+    @Autowired
+    private UserExperienceRepository userExperienceRepository;
+
+    @AfterEach
+    void tearDown() {
+        userExperienceRepository.deleteAll();
+        xpLedgerRepository.deleteAll();
+    }
+
+    @Test
+    void record_shouldFoldConcurrentFirstAwards_withoutLosingAny() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<XpChange>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                long receiptId = 100L + i;
+                futures.add(executor.submit(() -> {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return xpLedger.record(XpAward.forReceipt(USER_ID, receiptId, 60));
+                }));
+            }
+            for (Future<XpChange> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS).newTotal()).isPositive();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long ledgerTotal = xpLedgerRepository.sumDeltaAfter(USER_ID, 0L);
+        assertThat(ledgerTotal).isEqualTo(THREADS * 60L);
+
+        UserExperience snapshot = userExperienceRepository.findById(USER_ID).orElseThrow();
+        assertThat(snapshot.getTotalExp()).isEqualTo(ledgerTotal);
+        assertThat(snapshot.getLevel()).isEqualTo(expCalculator.levelOf(ledgerTotal));
+        assertThat(snapshot.getLastLedgerId()).isEqualTo(xpLedgerRepository.findMaxId(USER_ID));
+    }
+}
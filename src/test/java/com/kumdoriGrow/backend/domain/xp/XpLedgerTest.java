@@ -0,0 +1,156 @@
+package com.kumdoriGrow.backend.domain.xp;
+
+import com.kumdoriGrow.backend.config.XpProperties;
+import com.kumdoriGrow.backend.domain.category.CategoryWeightProvider;
+import com.kumdoriGrow.backend.domain.receipt.ExpCalculator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({XpLedger.class, UserExperienceUpsert.class, UserExperienceService.class, ExpCalculator.class})
+class XpLedgerTest {
+
+    @MockitoBean
+    private XpProperties xpProperties;
+
+    @MockitoBean
+    private CategoryWeightProvider categoryWeightProvider;
+
+    @Autowired
+    private XpLedger xpLedger;
+
+    @Autowired
+    private UserExperienceService userExperienceService;
+
+    @Autowired
+    private XpLedgerRepository xpLedgerRepository;
+
+    @Autowired
+    private UserExperienceRepository userExperienceRepository;
+
+    @Test
+    void record_shouldAppendEntryAndFoldIntoSnapshot() {
+        XpChange first = xpLedger.record(XpAward.forReceipt(1L, 10L, 60));
+        XpChange second = xpLedger.record(XpAward.forReceipt(1L, 11L, 50));
+
+        assertThat(first.newTotal()).isEqualTo(60);
+        assertThat(second.oldTotal()).isEqualTo(60);
+        assertThat(second.newTotal()).isEqualTo(110);
+        assertThat(second.leveledUp()).isTrue();
+
+        UserExperience snapshot = userExperienceRepository.findById(1L).orElseThrow();
+        assertThat(snapshot.getTotalExp()).isEqualTo(110);
+        assertThat(snapshot.getLevel()).isEqualTo(2);
+        assertThat(snapshot.getLastLedgerId()).isEqualTo(xpLedgerRepository.findMaxId(1L));
+        assertThat(userExperienceService.getTotalExp(1L)).isEqualTo(110);
+    }
+
+    @Test
+    void record_shouldSeedMissingSnapshotFromWholeLedger() {
+        xpLedger.record(XpAward.forReceipt(1L, 10L, 450));
+        userExperienceRepository.deleteAll();
+        userExperienceRepository.flush();
+
+        // 스냅샷이 지워진 뒤 첫 적립: 원장 전체(450 + 100)로 다시 만들고 레벨도 맞춘다
+        XpChange change = xpLedger.record(XpAward.forReceipt(1L, 11L, 100));
+
+        assertThat(change.oldTotal()).isEqualTo(450);
+        assertThat(change.newTotal()).isEqualTo(550);
+        assertThat(change.newLevel()).isEqualTo(3);
+        UserExperience snapshot = userExperienceRepository.findById(1L).orElseThrow();
+        assertThat(snapshot.getTotalExp()).isEqualTo(550);
+        assertThat(snapshot.getLevel()).isEqualTo(3);
+        assertThat(snapshot.getLastLedgerId()).isEqualTo(xpLedgerRepository.findMaxId(1L));
+    }
+
+    @Test
+    void record_shouldKeepLevel_whenRepeatAwardStaysWithinLevel() {
+        xpLedger.record(XpAward.forReceipt(1L, 10L, 20));
+        XpChange repeat = xpLedger.record(XpAward.forReceipt(1L, 11L, 30));
+
+        assertThat(repeat.oldTotal()).isEqualTo(20);
+        assertThat(repeat.newTotal()).isEqualTo(50);
+        assertThat(repeat.leveledUp()).isFalse();
+        assertThat(userExperienceRepository.findById(1L).orElseThrow().getLevel()).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldSkipDuplicateIdempotencyKey() {
+        xpLedger.record(XpAward.forReceipt(1L, 10L, 60));
+        XpChange replay = xpLedger.record(XpAward.forReceipt(1L, 10L, 60));
+
+        assertThat(replay.oldTotal()).isEqualTo(replay.newTotal());
+        assertThat(xpLedgerRepository.count()).isEqualTo(1);
+        assertThat(userExperienceService.getTotalExp(1L)).isEqualTo(60);
+    }
+
+    @Test
+    void record_shouldKeepSeparateKeysPerReason() {
+        // 같은 숫자 id라도 사유별 키가 달라 서로 막지 않는다
+        xpLedger.record(XpAward.forReceipt(1L, 10L, 60));
+        xpLedger.record(XpAward.forReward(1L, 10L, 40));
+        xpLedger.record(XpAward.adjustment(1L, 10, "10"));
+
+        // 재처리된 보상/보정은 한 번만 반영
+        XpChange rewardReplay = xpLedger.record(XpAward.forReward(1L, 10L, 40));
+        XpChange adjustmentReplay = xpLedger.record(XpAward.adjustment(1L, 10, "10"));
+
+        assertThat(rewardReplay.newTotal()).isEqualTo(rewardReplay.oldTotal());
+        assertThat(adjustmentReplay.newTotal()).isEqualTo(adjustmentReplay.oldTotal());
+        assertThat(xpLedgerRepository.count()).isEqualTo(3);
+        assertThat(userExperienceService.getTotalExp(1L)).isEqualTo(110);
+    }
+
+    @Test
+    void record_shouldLowerLevel_whenAdjustmentIsNegative() {
+        xpLedger.record(XpAward.forReceipt(1L, 10L, 120));
+        assertThat(userExperienceRepository.findById(1L).orElseThrow().getLevel()).isEqualTo(2);
+
+        XpChange change = xpLedger.record(XpAward.adjustment(1L, -30, "ticket-7"));
+
+        assertThat(change.newTotal()).isEqualTo(90);
+        assertThat(change.newLevel()).isEqualTo(1);
+        assertThat(userExperienceRepository.findById(1L).orElseThrow().getLevel()).isEqualTo(1);
+    }
+
+    @Test
+    void adjustment_shouldRequireCorrectionId() {
+        assertThatThrownBy(() -> XpAward.adjustment(1L, 10, " ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordAll_shouldBatchAwardsForSeveralUsers() {
+        Map<Long, XpChange> changes = xpLedger.recordAll(List.of(
+                XpAward.forReceipt(1L, 10L, 30),
+                XpAward.forReceipt(2L, 11L, 40),
+                XpAward.forReceipt(1L, 12L, 80),
+                XpAward.adjustment(2L, -5, "ticket-1")));
+
+        assertThat(changes).containsOnlyKeys(1L, 2L);
+        assertThat(changes.get(1L).newTotal()).isEqualTo(110);
+        assertThat(changes.get(2L).newTotal()).isEqualTo(35);
+        assertThat(xpLedgerRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void getTotalExp_shouldAddLedgerRowsBeyondSnapshotCursor() {
+        // 스냅샷이 없는 사용자는 원장 전체 합계
+        assertThat(userExperienceService.getTotalExp(3L)).isZero();
+
+        xpLedger.record(XpAward.forReceipt(3L, 20L, 70));
+        userExperienceRepository.findById(3L).orElseThrow().setLastLedgerId(0L);
+        userExperienceRepository.findById(3L).orElseThrow().setTotalExp(0L);
+        userExperienceRepository.flush();
+
+        assertThat(userExperienceService.getTotalExp(3L)).isEqualTo(70);
+    }
+}
@@ -0,0 +1,211 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 스텁 OCR 서버(지연/오류 주입)로 서킷 브레이커/벌크헤드 동작 확인
+ */
+class ClovaOcrClientResilienceTest {
+
+    private enum Mode { OK, SERVER_ERROR, BAD_REQUEST, SLOW, BLOCK }
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicReference<Mode> mode = new AtomicReference<>(Mode.OK);
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong();
+    private final CountDownLatch arrived = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final AtomicReference<byte[]> lastBody = new AtomicReference<>();
+
+    private final MockMultipartFile image =
+            new MockMultipartFile("file", "receipt.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OcrCircuitBreaker circuitBreaker;
+    private ClovaOcrClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ocr", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        // 창 4건, 4건 중 50% 이상 실패 시 OPEN, 시험 호출 1건, 동시 호출 1건 (대기 없음)
+        OcrProperties.Resilience resilience = new OcrProperties.Resilience(
+                50, 4, 4, OPEN_DURATION, 1, 1, Duration.ZERO);
+        OcrProperties props = new OcrProperties(true,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/ocr", "secret", null, resilience, null, null);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(1000);
+        requestFactory.setReadTimeout(300);
+
+        circuitBreaker = new OcrCircuitBreaker(resilience, clock::get);
+        client = new ClovaOcrClient(new RestTemplate(requestFactory), props, circuitBreaker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldOpenCircuitAndFailFast_whenBackendReturns5xx() {
+        mode.set(Mode.SERVER_ERROR);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.request(image)).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.request(image)).isInstanceOf(OcrUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+        assertThat(hits.get()).isEqualTo(4); // OPEN 이후에는 백엔드 미호출
+    }
+
+    @Test
+    void shouldStreamUploadWithoutCopyingBytes() throws Exception {
+        MockMultipartFile upload = spy(new MockMultipartFile("file", "receipt.jpg", "image/jpeg",
+                "RECEIPT-IMAGE-BYTES".getBytes(StandardCharsets.UTF_8)));
+
+        client.request(upload);
+
+        verify(upload, never()).getBytes();
+        assertThat(new String(lastBody.get(), StandardCharsets.UTF_8)).contains("RECEIPT-IMAGE-BYTES");
+    }
+
+    @Test
+    void shouldCountTimeoutsAsFailures() {
+        mode.set(Mode.SLOW);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.request(image)).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldNotOpen_whenBackendRejectsRequestWith4xx() {
+        mode.set(Mode.BAD_REQUEST);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.request(image)).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbe_andReopenAfterFailedProbe() {
+        mode.set(Mode.SERVER_ERROR);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.request(image)).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // 실패한 시험 호출 → 다시 OPEN
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(() -> client.request(image)).isInstanceOf(HttpServerErrorException.class);
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+
+        // 성공한 시험 호출 → CLOSED
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        mode.set(Mode.OK);
+        OcrResult result = client.request(image);
+        assertThat(result).isNotNull();
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldRejectConcurrentCall_whenBulkheadIsFull() throws Exception {
+        mode.set(Mode.BLOCK);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                client.request(image);
+            } catch (RuntimeException ignored) {
+                // 읽기 타임아웃 여부는 이 테스트의 관심사가 아님
+            }
+        });
+        assertThat(arrived.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.request(image))
+                .isInstanceOf(OcrUnavailableException.class)
+                .hasMessageContaining("concurrent");
+
+        unblock.countDown();
+        first.get(2, TimeUnit.SECONDS);
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.CLOSED); // 거절은 실패로 세지 않음
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        lastBody.set(exchange.getRequestBody().readAllBytes());
+        try {
+            switch (mode.get()) {
+                case SERVER_ERROR -> respond(exchange, 500, "{\"error\":\"internal\"}");
+                case BAD_REQUEST -> respond(exchange, 400, "{\"error\":\"bad image\"}");
+                case SLOW -> {
+                    sleep(1000);
+                    respond(exchange, 200, "{\"images\":[]}");
+                }
+                case BLOCK -> {
+                    arrived.countDown();
+                    unblock.await(2, TimeUnit.SECONDS);
+                    respond(exchange, 200, "{\"images\":[]}");
+                }
+                default -> respond(exchange, 200, "{\"images\":[]}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
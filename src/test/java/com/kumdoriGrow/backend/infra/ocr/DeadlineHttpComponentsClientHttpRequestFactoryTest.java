@@ -0,0 +1,185 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조금씩 흘려보내는(stalled) 스텁 서버로 전체 마감 동작 확인
+ * - 소켓 읽기 타임아웃에는 걸리지 않아도 totalTimeout에 요청이 중단되어야 한다
+ * - 끝난 요청의 마감 예약은 스케줄러에 남지 않아야 한다
+ * - multipart 본문은 버퍼에 모이지 않고 execute() 때 그대로 흘려보내져야 한다
+ */
+class DeadlineHttpComponentsClientHttpRequestFactoryTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(500);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicReference<byte[]> uploaded = new AtomicReference<>();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private DeadlineHttpComponentsClientHttpRequestFactory requestFactory;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, "ok"));
+        server.createContext("/drip", this::drip);
+        server.createContext("/upload", exchange -> {
+            uploaded.set(exchange.getRequestBody().readAllBytes());
+            respond(exchange, "ok");
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        // 소켓 읽기 타임아웃(5초)은 마감(0.5초)보다 훨씬 길게
+        requestFactory = new DeadlineHttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                .setDefaultRequestConfig(RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(5)).build())
+                .build(), DEADLINE);
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        requestFactory.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldAbortAtTotalTimeout_whenServerDripsResponse() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/drip"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat(elapsed).isGreaterThanOrEqualTo(DEADLINE.minusMillis(50));
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void close_shouldCancelScheduledDeadline() {
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+
+        // 응답을 닫을 때 예약이 취소되고 큐에서도 빠진다 (setRemoveOnCancelPolicy)
+        assertThat(requestFactory.pendingDeadlines()).isZero();
+    }
+
+    @Test
+    void multipartBody_shouldStreamAtExecute_insteadOfBuffering() throws Exception {
+        AtomicBoolean opened = new AtomicBoolean();
+        byte[] image = "RECEIPT-IMAGE-BYTES".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+        ByteArrayResource file = new ByteArrayResource(image) {
+            @Override
+            public InputStream getInputStream() {
+                opened.set(true);
+                return super.getInputStream();
+            }
+
+            @Override
+            public String getFilename() {
+                return "receipt.jpg";
+            }
+        };
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("message", "{\"version\":\"V2\"}");
+        parts.add("file", file);
+
+        ClientHttpRequest request = requestFactory.createRequest(URI.create(url("/upload")), HttpMethod.POST);
+        assertThat(request).isInstanceOf(StreamingHttpOutputMessage.class);
+
+        new FormHttpMessageConverter().write(parts, MediaType.MULTIPART_FORM_DATA, request);
+        // getBody()로 버퍼링했다면 여기서 이미 이미지를 다 읽었을 것
+        assertThat(opened).isFalse();
+
+        try (ClientHttpResponse response = request.execute()) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+        assertThat(opened).isTrue();
+        assertThat(new String(uploaded.get(), StandardCharsets.UTF_8))
+                .contains("name=\"file\"; filename=\"receipt.jpg\"")
+                .contains(new String(image, StandardCharsets.UTF_8));
+        assertThat(requestFactory.pendingDeadlines()).isZero();
+    }
+
+    @Test
+    void multipartBody_shouldReachServer_throughRestTemplate() {
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("file", new ByteArrayResource("RECEIPT-IMAGE-BYTES".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "receipt.jpg";
+            }
+        });
+
+        assertThat(restTemplate.postForObject(url("/upload"), parts, String.class)).isEqualTo("ok");
+        assertThat(new String(uploaded.get(), StandardCharsets.UTF_8)).contains("RECEIPT-IMAGE-BYTES");
+    }
+
+    // 헤더는 바로 보내고 본문은 100ms마다 1바이트씩 - 읽기 간격 타임아웃에는 걸리지 않는다
+    private void drip(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            for (int i = 0; i < 100 && !release.await(100, TimeUnit.MILLISECONDS); i++) {
+                body.write('.');
+                body.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 연결을 끊음
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
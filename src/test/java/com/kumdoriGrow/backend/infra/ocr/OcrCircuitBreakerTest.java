@@ -0,0 +1,107 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상태가 바뀐 뒤 늦게 끝난 호출이 HALF_OPEN 집계를 건드리지 않는지
+ */
+class OcrCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // 창 4건, 50% 이상 실패 시 OPEN, 시험 호출 1건, 동시 호출 2건
+    private final OcrCircuitBreaker circuitBreaker = new OcrCircuitBreaker(
+            new OcrProperties.Resilience(50, 4, 4, OPEN_DURATION, 1, 2, Duration.ZERO), clock::get);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void lateSuccessAdmittedWhileClosed_shouldNotCountAsProbe() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = startSlowCall(release, false);
+
+        openThenHalfOpen();
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        // 예전에는 이 성공이 시험 호출로 세어져 바로 CLOSED가 됐다
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.execute(() -> "probe")).isEqualTo("probe");
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void lateFailureAdmittedWhileClosed_shouldNotReopenHalfOpenCircuit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = startSlowCall(release, true);
+
+        openThenHalfOpen();
+        release.countDown();
+        assertThatThrownBy(() -> slow.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.execute(() -> "probe")).isEqualTo("probe");
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void minimumCallsLargerThanWindow_shouldBeClampedSoCircuitStillOpens() {
+        OcrProperties.Resilience resilience = new OcrProperties.Resilience(50, 4, 50, OPEN_DURATION, 1, 2, Duration.ZERO);
+        assertThat(resilience.minimumCalls()).isEqualTo(4);
+
+        OcrCircuitBreaker breaker = new OcrCircuitBreaker(resilience, clock::get);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                throw new IllegalStateException("5xx");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(breaker.state()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+    }
+
+    // CLOSED에서 통과한 뒤 release 전까지 끝나지 않는 호출
+    private Future<String> startSlowCall(CountDownLatch release, boolean fail) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<String> future = executor.submit(() -> circuitBreaker.execute(() -> {
+            started.countDown();
+            release.await();
+            if (fail) {
+                throw new IllegalStateException("late 5xx");
+            }
+            return "late";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return future;
+    }
+
+    private void openThenHalfOpen() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw new IllegalStateException("5xx");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.OPEN);
+
+        clock.addAndGet(OPEN_DURATION.plusSeconds(1).toNanos());
+        assertThat(circuitBreaker.state()).isEqualTo(OcrCircuitBreaker.State.HALF_OPEN);
+    }
+}
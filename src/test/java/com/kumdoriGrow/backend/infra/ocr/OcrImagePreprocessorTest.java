@@ -0,0 +1,128 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrImagePreprocessorTest {
+
+    @Test
+    void preprocess_shouldDownscaleAndConvertToGrayscaleJpeg() throws Exception {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(new OcrProperties.Preprocess(true, 800, true, 0.8f));
+        MockMultipartFile original = image(3000, 4000, "png");
+
+        MultipartFile result = preprocessor.preprocess(original);
+
+        assertThat(result.getContentType()).isEqualTo("image/jpeg");
+        assertThat(result.getSize()).isLessThan(original.getSize());
+        BufferedImage decoded = ImageIO.read(result.getInputStream());
+        assertThat(Math.max(decoded.getWidth(), decoded.getHeight())).isEqualTo(800);
+        assertThat(decoded.getWidth()).isEqualTo(600);
+        assertThat(decoded.getType()).isEqualTo(BufferedImage.TYPE_BYTE_GRAY);
+    }
+
+    @Test
+    void encode_shouldApplyExifOrientation_forPortraitPhotos() throws Exception {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(new OcrProperties.Preprocess(true, 800, true, 0.9f));
+        // 센서 방향(가로 400x200)으로 저장되고 왼쪽 절반이 검은 사진
+        byte[] landscape = halfBlackJpeg(400, 200);
+
+        // 6 = 시계 방향 90° 돌려서 볼 것 → 세로 200x400, 검은 부분이 위
+        BufferedImage rotatedCw = encode(preprocessor, withExifOrientation(landscape, 6));
+        assertThat(rotatedCw.getWidth()).isEqualTo(200);
+        assertThat(rotatedCw.getHeight()).isEqualTo(400);
+        assertThat(rotatedCw.getRaster().getSample(100, 20, 0)).isLessThan(64);
+        assertThat(rotatedCw.getRaster().getSample(100, 380, 0)).isGreaterThan(192);
+
+        // 8 = 시계 방향 270° → 검은 부분이 아래
+        BufferedImage rotatedCcw = encode(preprocessor, withExifOrientation(landscape, 8));
+        assertThat(rotatedCcw.getWidth()).isEqualTo(200);
+        assertThat(rotatedCcw.getRaster().getSample(100, 20, 0)).isGreaterThan(192);
+        assertThat(rotatedCcw.getRaster().getSample(100, 380, 0)).isLessThan(64);
+
+        // 태그가 없으면 그대로
+        BufferedImage unchanged = encode(preprocessor, landscape);
+        assertThat(unchanged.getWidth()).isEqualTo(400);
+    }
+
+    @Test
+    void preprocess_shouldReturnOriginal_whenImageCannotBeDecoded() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(new OcrProperties.Preprocess(true, 800, true, 0.8f));
+        MockMultipartFile corrupt = new MockMultipartFile("file", "receipt.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        assertThat(preprocessor.preprocess(corrupt)).isSameAs(corrupt);
+    }
+
+    @Test
+    void preprocess_shouldReturnOriginal_whenDisabled() throws Exception {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(new OcrProperties.Preprocess());
+        MockMultipartFile original = image(3000, 4000, "png");
+
+        assertThat(preprocessor.preprocess(original)).isSameAs(original);
+    }
+
+    private static byte[] halfBlackJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    // JFIF APP0 뒤에 Orientation 태그 하나짜리 Exif APP1(빅엔디언)을 끼워 넣는다
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                  // TIFF 헤더, IFD0 오프셋 8
+                0, 1,                                         // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0                                    // 다음 IFD 없음
+        };
+        int insertAt = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF)); // SOI + APP0 마커 + APP0 길이
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((exif.length + 2) >> 8);
+        out.write((exif.length + 2) & 0xFF);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage encode(OcrImagePreprocessor preprocessor, byte[] jpeg) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(preprocessor.encode(new ByteArrayInputStream(jpeg))));
+    }
+
+    private static MockMultipartFile image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(7);
+        for (int i = 0; i < width * height / 50; i++) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), Color.GRAY.getRGB());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new MockMultipartFile("file", "receipt." + format, "image/" + format, out.toByteArray());
+    }
+}
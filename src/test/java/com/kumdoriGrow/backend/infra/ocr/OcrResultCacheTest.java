@@ -0,0 +1,152 @@
+package com.kumdoriGrow.backend.infra.ocr;
+
+import com.kumdoriGrow.backend.config.OcrProperties;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrFieldModels;
+import com.kumdoriGrow.backend.infra.ocr.dto.OcrResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OcrResultCacheTest {
+
+    @TempDir
+    Path diskDir;
+
+    @Test
+    void hash_shouldDependOnContentOnly() throws Exception {
+        OcrResultCache cache = cache(null);
+        MockMultipartFile a = new MockMultipartFile("file", "a.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        MockMultipartFile b = new MockMultipartFile("file", "b.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        MockMultipartFile c = new MockMultipartFile("file", "a.jpg", "image/jpeg", new byte[]{1, 2, 4});
+
+        assertThat(cache.hash(a)).hasSize(64).isEqualTo(cache.hash(b));
+        assertThat(cache.hash(a)).isNotEqualTo(cache.hash(c));
+    }
+
+    @Test
+    void get_shouldReturnResultFromMemory() {
+        OcrResultCache cache = cache(null);
+
+        cache.put("abc", result("스타벅스"));
+
+        assertThat(text(cache.get("abc").orElseThrow())).isEqualTo("스타벅스");
+        assertThat(cache.get("missing")).isEmpty();
+    }
+
+    @Test
+    void get_shouldReturnDefensiveCopy() {
+        OcrResultCache cache = cache(null);
+        OcrResult original = result("스타벅스");
+        cache.put("abc", original);
+
+        // 넣은 객체나 꺼낸 객체를 고쳐도 캐시된 값은 그대로
+        original.getImages().get(0).getFields().get(0).setInferText("변경");
+        OcrResult first = cache.get("abc").orElseThrow();
+        first.getImages().get(0).getFields().get(0).setInferText("변경");
+
+        OcrResult second = cache.get("abc").orElseThrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(text(second)).isEqualTo("스타벅스");
+    }
+
+    @Test
+    void get_shouldSurviveRestart_whenDiskTierEnabled() {
+        cache(diskDir.toString()).put("abc", result("스타벅스"));
+
+        // 새 인스턴스 = 메모리 계층이 비어 있는 재기동 상황
+        OcrResult reloaded = cache(diskDir.toString()).get("abc").orElseThrow();
+
+        assertThat(text(reloaded)).isEqualTo("스타벅스");
+    }
+
+    @Test
+    void sweepDisk_shouldRemoveExpiredFiles() throws Exception {
+        OcrResultCache cache = cache(diskDir.toString());
+        cache.put("old", result("예전"));
+        cache.put("new", result("최근"));
+        Files.writeString(diskDir.resolve("old12345.tmp"), "{");   // 쓰다 멈춘 임시 파일
+        age(diskDir.resolve("old.json"), Duration.ofHours(2));
+        age(diskDir.resolve("old12345.tmp"), Duration.ofHours(2));
+
+        assertThat(cache.sweepDisk()).isEqualTo(2);
+
+        assertThat(diskDir.resolve("old.json")).doesNotExist();
+        assertThat(diskDir.resolve("old12345.tmp")).doesNotExist();
+        assertThat(diskDir.resolve("new.json")).exists();
+    }
+
+    @Test
+    void sweepDisk_shouldEvictOldestFiles_whenOverEntryLimit() throws Exception {
+        OcrResultCache cache = cache(diskDir.toString(), 2, DataSize.ofMegabytes(1));
+        for (int i = 0; i < 4; i++) {
+            cache.put("h" + i, result("가게" + i));
+            age(diskDir.resolve("h" + i + ".json"), Duration.ofMinutes(40 - i * 10)); // h0이 가장 오래됨
+        }
+
+        assertThat(cache.sweepDisk()).isEqualTo(2);
+
+        assertThat(diskDir.resolve("h0.json")).doesNotExist();
+        assertThat(diskDir.resolve("h1.json")).doesNotExist();
+        assertThat(diskDir.resolve("h2.json")).exists();
+        assertThat(diskDir.resolve("h3.json")).exists();
+    }
+
+    @Test
+    void sweepDisk_shouldEvictOldestFiles_whenOverByteLimit() throws Exception {
+        OcrResultCache probe = cache(diskDir.toString());
+        probe.put("size", result("가게"));
+        long fileSize = Files.size(diskDir.resolve("size.json"));
+        Files.delete(diskDir.resolve("size.json"));
+
+        // 파일 2개 반 크기 상한 → 3개 중 가장 오래된 1개 삭제
+        OcrResultCache cache = cache(diskDir.toString(), 100, DataSize.ofBytes(fileSize * 5 / 2));
+        for (int i = 0; i < 3; i++) {
+            cache.put("b" + i, result("가게"));
+            age(diskDir.resolve("b" + i + ".json"), Duration.ofMinutes(30 - i * 10));
+        }
+
+        assertThat(cache.sweepDisk()).isEqualTo(1);
+        assertThat(diskDir.resolve("b0.json")).doesNotExist();
+    }
+
+    private OcrResultCache cache(String dir) {
+        return cache(dir, 0, null);
+    }
+
+    private OcrResultCache cache(String dir, int diskMaxEntries, DataSize diskMaxBytes) {
+        OcrProperties props = new OcrProperties(true, "", "", null, null,
+                new OcrProperties.Cache(true, 10, Duration.ofHours(1), dir, diskMaxEntries, diskMaxBytes, null), null);
+        return new OcrResultCache(props, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    private static void age(Path file, Duration age) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+    }
+
+    private static String text(OcrResult result) {
+        return result.getImages().get(0).getFields().get(0).getInferText();
+    }
+
+    private OcrResult result(String text) {
+        OcrFieldModels.OcrField field = new OcrFieldModels.OcrField();
+        field.setInferText(text);
+        OcrFieldModels.OcrImage image = new OcrFieldModels.OcrImage();
+        image.setFields(List.of(field));
+        OcrResult result = new OcrResult();
+        result.setImages(List.of(image));
+        return result;
+    }
+}